@@ -1,5 +1,6 @@
 package endorh.simpleconfig.api;
 
+import endorh.simpleconfig.api.SimpleConfig.SyncScope;
 import endorh.simpleconfig.api.ui.icon.Icon;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -62,6 +63,15 @@ public interface ConfigCategoryBuilder extends ConfigEntryHolderBuilder<ConfigCa
 	 */
 	@Contract("_ -> this") @NotNull ConfigCategoryBuilder withColor(int tint);
 	
+	/**
+	 * Set which players receive the values of this category.<br>
+	 * Only affects {@link SimpleConfig.Type#SERVER} configs.<br>
+	 * By default, categories use the scope of their config.
+	 *
+	 * @see SimpleConfigBuilder#withSyncScope(SyncScope)
+	 */
+	@Contract("_ -> this") @NotNull ConfigCategoryBuilder withSyncScope(SyncScope scope);
+	
 	/**
 	 * Add a config group at the given index.<br>
 	 * You shouldn't need to specify the index under normal circumstances.
@@ -1,5 +1,6 @@
 package endorh.simpleconfig.api;
 
+import endorh.simpleconfig.api.ConfigHandle.*;
 import endorh.simpleconfig.api.SimpleConfig.*;
 import endorh.simpleconfig.api.ui.ConfigScreen;
 import net.minecraftforge.api.distmarker.Dist;
@@ -438,6 +439,90 @@ public interface ConfigEntryHolder {
 		}
 	}
 	
+	/**
+	 * Get a handle to the baked value of an entry.<br>
+	 * The path is resolved only once, and the handle is kept up to date,
+	 * so it can be stored and read as many times as needed.<br>
+	 * To read a primitive value without boxing use instead the variant methods
+	 *
+	 * @param path Name or dot-separated path to the value
+	 * @param <T> Expected type of the value
+	 * @throws NoSuchConfigEntryError if the value is not found
+	 * @see #booleanHandle(String)
+	 * @see #intHandle(String)
+	 * @see #longHandle(String)
+	 * @see #floatHandle(String)
+	 * @see #doubleHandle(String)
+	 */
+	default <T> ConfigHandle<T> handle(String path) {
+		return () -> getBaked(path);
+	}
+	
+	/**
+	 * Get a handle to a baked boolean value
+	 *
+	 * @param path Name or dot-separated path to the value
+	 * @throws NoSuchConfigEntryError if the value is not found
+	 * @throws InvalidConfigValueTypeException if the value type is not boolean
+	 * @see #handle(String)
+	 */
+	default BooleanHandle booleanHandle(String path) {
+		getBakedBoolean(path);
+		return () -> getBakedBoolean(path);
+	}
+	
+	/**
+	 * Get a handle to a baked int value
+	 *
+	 * @param path Name or dot-separated path to the value
+	 * @throws NoSuchConfigEntryError if the value is not found
+	 * @throws InvalidConfigValueTypeException if the value type is not numeric
+	 * @see #handle(String)
+	 */
+	default IntHandle intHandle(String path) {
+		getBakedInt(path);
+		return () -> getBakedInt(path);
+	}
+	
+	/**
+	 * Get a handle to a baked long value
+	 *
+	 * @param path Name or dot-separated path to the value
+	 * @throws NoSuchConfigEntryError if the value is not found
+	 * @throws InvalidConfigValueTypeException if the value type is not numeric
+	 * @see #handle(String)
+	 */
+	default LongHandle longHandle(String path) {
+		getBakedLong(path);
+		return () -> getBakedLong(path);
+	}
+	
+	/**
+	 * Get a handle to a baked float value
+	 *
+	 * @param path Name or dot-separated path to the value
+	 * @throws NoSuchConfigEntryError if the value is not found
+	 * @throws InvalidConfigValueTypeException if the value type is not numeric
+	 * @see #handle(String)
+	 */
+	default FloatHandle floatHandle(String path) {
+		getBakedFloat(path);
+		return () -> getBakedFloat(path);
+	}
+	
+	/**
+	 * Get a handle to a baked double value
+	 *
+	 * @param path Name or dot-separated path to the value
+	 * @throws NoSuchConfigEntryError if the value is not found
+	 * @throws InvalidConfigValueTypeException if the value type is not numeric
+	 * @see #handle(String)
+	 */
+	default DoubleHandle doubleHandle(String path) {
+		getBakedDouble(path);
+		return () -> getBakedDouble(path);
+	}
+	
 	/**
 	 * Set a config value in its baked domain.<br>
 	 * This is only possible if the entry defines an invertible baking transformation,
@@ -0,0 +1,41 @@
+package endorh.simpleconfig.api;
+
+import java.util.function.*;
+
+/**
+ * Handle to the baked value of a config entry.<br>
+ * The entry path is resolved only once, when the handle is created, and the
+ * value is updated every time the entry is baked, so reading it doesn't involve
+ * any path lookup or conversion.<br>
+ * Primitive variants avoid boxing, so they may be read from hot code paths
+ * without allocating.
+ *
+ * @see ConfigEntryHolder#handle(String)
+ * @see ConfigEntryHolder#intHandle(String)
+ */
+@FunctionalInterface public interface ConfigHandle<T> extends Supplier<T> {
+	/**
+	 * Get the current baked value of the entry
+	 */
+	@Override T get();
+	
+	@FunctionalInterface interface BooleanHandle extends BooleanSupplier {
+		@Override boolean getAsBoolean();
+	}
+	
+	@FunctionalInterface interface IntHandle extends IntSupplier {
+		@Override int getAsInt();
+	}
+	
+	@FunctionalInterface interface LongHandle extends LongSupplier {
+		@Override long getAsLong();
+	}
+	
+	@FunctionalInterface interface FloatHandle {
+		float getAsFloat();
+	}
+	
+	@FunctionalInterface interface DoubleHandle extends DoubleSupplier {
+		@Override double getAsDouble();
+	}
+}
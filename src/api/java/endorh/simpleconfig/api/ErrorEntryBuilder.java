@@ -88,6 +88,24 @@ public interface ErrorEntryBuilder<V, Config, Gui, Self extends TooltipEntryBuil
 	 */
 	@Contract(pure=true) @NotNull Self withoutError();
 	
+	/**
+	 * Run the error checks of this entry in a background thread while it's edited
+	 * in the config GUI, for checks too expensive to run on every edit.<br>
+	 * Until a check completes, the GUI keeps displaying the last known error.<br>
+	 * The error checks must be thread-safe when enabled.
+	 * @param async Whether to run the error checks in a background thread
+	 */
+	@Contract(pure=true) @NotNull Self asyncError(boolean async);
+	
+	/**
+	 * Run the error checks of this entry in a background thread while it's edited
+	 * in the config GUI
+	 * @see #asyncError(boolean)
+	 */
+	@Contract(pure=true) default @NotNull Self asyncError() {
+		return asyncError(true);
+	}
+	
 	/**
 	 * Restrict the values of this entry<br>
 	 * Subsequent calls to this and any other error methods <b>add more error checks</b> to the
@@ -353,6 +353,43 @@ public interface SimpleConfig extends ConfigEntryHolder {
 		}
 	}
 	
+	/**
+	 * Determines which players receive the values of a {@link Type#SERVER} config,
+	 * or one of its categories.<br>
+	 * <ul>
+	 *    <li>{@link #ALL} - all players (default)</li>
+	 *    <li>{@link #EDITORS} - only players editing the config in its menu</li>
+	 *    <li>{@link #NONE} - no player</li>
+	 * </ul>
+	 * Players not receiving the values of an entry will only see its default value,
+	 * so restricted scopes are only suitable for entries used by server logic.
+	 */
+	enum SyncScope {
+		/**
+		 * Synced to all players
+		 */
+		ALL,
+		/**
+		 * Only synced to players with permission to view the config,
+		 * while they are editing it in its config menu
+		 */
+		EDITORS,
+		/**
+		 * Never synced.<br>
+		 * The entries can still be edited from the config files or commands,
+		 * but they're hidden from the config menu of players in remote servers.
+		 */
+		NONE;
+		
+		/**
+		 * Whether entries in this scope are sent to a player
+		 * @param editor Whether the player is editing the config
+		 */
+		public boolean isSyncedTo(boolean editor) {
+			return this == ALL || editor && this == EDITORS;
+		}
+	}
+	
 	// SimpleConfigGUIManager methods
 	
 	/**
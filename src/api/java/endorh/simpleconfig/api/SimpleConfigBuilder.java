@@ -1,6 +1,7 @@
 package endorh.simpleconfig.api;
 
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import endorh.simpleconfig.api.SimpleConfig.SyncScope;
 import endorh.simpleconfig.api.ui.icon.Icon;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.resources.ResourceLocation;
@@ -69,6 +70,14 @@ public interface SimpleConfigBuilder extends ConfigEntryHolderBuilder<SimpleConf
 	 */
 	@Contract("-> this") @NotNull SimpleConfigBuilder withSolidInGameBackground();
 	
+	/**
+	 * Set which players receive the values of this config.<br>
+	 * Only affects {@link SimpleConfig.Type#SERVER} configs. Categories
+	 * may override it with {@link ConfigCategoryBuilder#withSyncScope}.<br>
+	 * By default, {@link SyncScope#ALL}.
+	 */
+	@Contract("_ -> this") @NotNull SimpleConfigBuilder withSyncScope(SyncScope scope);
+	
 	/**
 	 * Restrict dynamically which categories are displayed in the config GUI.<br>
 	 * Intended to hide config categories only relevant in certain environments,
@@ -28,6 +28,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -112,6 +113,11 @@ public class ServerConfig {
 		       .add("datapack_permission", option(ConfigPermission.EDIT_SERVER_CONFIG)
 		         .restrict(ConfigPermission.VIEW_SERVER_CONFIG))
 		       .add("broadcast_datapack_config_changes", yesNo(false))
+		  ).n(group("network")
+		       .add("delta_sync", yesNo(true))
+		       .add("update_batch_ms", number(100).min(0).max(5000))
+		       .add("player_update_rate", number(10F).min(0))
+		       .add("player_update_burst", number(20).min(1))
 		  ).text("end")
 		  .buildAndRegister();
 	}
@@ -209,16 +215,74 @@ public class ServerConfig {
 			                     : permissionFor(player, mod);
 		}
 		
+		// Compiled from the rules on bake, see permissionFor
+		private static final int MAX_CACHED_DECISIONS = 4096;
+		private static volatile CompiledPermissions compiled = new CompiledPermissions(
+		  Collections.emptyMap());
+		
+		/**
+		 * Roles of each player, and the decisions cached for them.<br>
+		 * Replaced as a whole on bake, so decisions computed from outdated
+		 * roles are discarded with them.
+		 */
+		private record CompiledPermissions(
+		  Map<String, Set<String>> playerRoles,
+		  Map<PermissionKey, Pair<ConfigPermission, PresetPermission>> decisions,
+		  Map<PermissionKey, Boolean> hotkeyDecisions
+		) {
+			private CompiledPermissions(Map<String, Set<String>> playerRoles) {
+				this(playerRoles, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+			}
+		}
+		
+		/**
+		 * Player and permission level (and mod) a permission decision depends on.<br>
+		 * Since the permission level is part of the key, decisions don't need to be
+		 * invalidated when a player is opped or deopped.
+		 */
+		private record PermissionKey(String player, boolean op, @Nullable String mod) {
+			private static PermissionKey of(Player player, @Nullable String mod) {
+				return new PermissionKey(player.getScoreboardName(), player.hasPermissions(2), mod);
+			}
+		}
+		
+		@Bind public static void bake() {
+			Map<String, Set<String>> playerRoles = new HashMap<>();
+			roles.forEach((role, players) -> players.forEach(
+			  p -> playerRoles.computeIfAbsent(p, k -> new HashSet<>()).add(role)));
+			playerRoles.replaceAll((p, r) -> Set.copyOf(r));
+			compiled = new CompiledPermissions(Map.copyOf(playerRoles));
+		}
+		
+		private static Set<String> rolesFor(CompiledPermissions compiled, PermissionKey key) {
+			final Set<String> roles = new HashSet<>(
+			  compiled.playerRoles().getOrDefault(key.player(), Collections.emptySet()));
+			if (key.op()) roles.add("[op]");
+			roles.add("[all]");
+			return roles;
+		}
+		
+		/**
+		 * Permission decisions are cached per player, permission level and mod,
+		 * until the server config is baked again.
+		 */
 		public static Pair<ConfigPermission, PresetPermission> permissionFor(
 		  Player player, String mod
 		) {
-			final Set<String> roles = permissions.roles.entrySet().stream().filter(
-			  e -> e.getValue().contains(player.getScoreboardName())
-			).map(Entry::getKey).collect(Collectors.toSet());
 			if (player.hasPermissions(4)) // Top level admins/single-player cheats
 				return Pair.of(ConfigPermission.EDIT_SERVER_CONFIG, PresetPermission.SAVE_PRESETS);
-			if (player.hasPermissions(2)) roles.add("[op]");
-			roles.add("[all]");
+			final CompiledPermissions compiled = permissions.compiled;
+			final Map<PermissionKey, Pair<ConfigPermission, PresetPermission>> decisions =
+			  compiled.decisions();
+			if (decisions.size() > MAX_CACHED_DECISIONS) decisions.clear();
+			return decisions.computeIfAbsent(PermissionKey.of(player, mod), k -> decide(compiled, k));
+		}
+		
+		private static Pair<ConfigPermission, PresetPermission> decide(
+		  CompiledPermissions compiled, PermissionKey key
+		) {
+			final String mod = key.mod();
+			final Set<String> roles = rolesFor(compiled, key);
 			final Set<String> modGroups = permissions.mod_groups.entrySet().stream().filter(
 			  e -> e.getValue().getKey() == ListType.BLACKLIST ^ e.getValue().getValue().contains(mod)
 			).map(Entry::getKey).collect(Collectors.toSet());
@@ -250,16 +314,30 @@ public class ServerConfig {
 		}
 		
 		public static boolean canEditServerHotKeys(Player player) {
-			final Set<String> roles = permissions.roles.entrySet().stream().filter(
-			  e -> e.getValue().contains(player.getScoreboardName())
-			).map(Entry::getKey).collect(Collectors.toSet());
 			if (player.hasPermissions(4)) // Top level admins/single-player cheats
 				return true;
-			if (player.hasPermissions(2)) roles.add("[op]");
-			roles.add("[all]");
-			for (Pair<String, Boolean> rule: Lists.reverse(hotkey_rules))
-				if (roles.contains(rule.getKey())) return rule.getValue();
-			return false;
+			final CompiledPermissions compiled = permissions.compiled;
+			final Map<PermissionKey, Boolean> hotkeyDecisions = compiled.hotkeyDecisions();
+			if (hotkeyDecisions.size() > MAX_CACHED_DECISIONS) hotkeyDecisions.clear();
+			return hotkeyDecisions.computeIfAbsent(PermissionKey.of(player, null), k -> {
+				final Set<String> roles = rolesFor(compiled, k);
+				for (Pair<String, Boolean> rule: Lists.reverse(hotkey_rules))
+					if (roles.contains(rule.getKey())) return rule.getValue();
+				return false;
+			});
 		}
 	}
+	
+	@Bind
+	public static class network {
+		// Send only the changed entries to clients, instead of the whole config
+		//   Clients missing an update will request a full resync
+		@Bind public static boolean delta_sync = true;
+		// Updates received from players within this time are merged, and applied,
+		//   broadcast and synced only once
+		@Bind public static int update_batch_ms = 100;
+		// Updates accepted per second from each player, 0 for no limit
+		@Bind public static float player_update_rate = 10F;
+		@Bind public static int player_update_burst = 20;
+	}
 }
@@ -25,6 +25,7 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.ForgeConfigSpec;
@@ -81,25 +82,47 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	protected boolean requireRestart = false;
 	protected boolean experimental;
 	protected @Nullable BiFunction<AbstractConfigEntry<V, Config, Gui>, Gui, Optional<Component>> errorSupplier = null;
+	protected boolean asyncError = false;
 	protected @Nullable BiFunction<AbstractConfigEntry<V, Config, Gui>, Gui, List<Component>> tooltipSupplier = null;
 	protected @Nullable BiFunction<AbstractConfigEntry<V, Config, Gui>, Gui, List<Component>> warningSupplier = null;
 	protected @Nullable BiConsumer<Gui, ConfigEntryHolder> saver = null;
 	protected @Nullable Function<ConfigEntryHolder, Boolean> editableSupplier = null;
 	protected @Nullable BackingField<V, ?> backingField;
 	protected @Nullable List<BackingField<V, ?>> secondaryBackingFields;
-	protected boolean dirty = false;
+	protected volatile boolean dirty = false;
 	protected @Nullable Component displayName = null;
 	protected List<Object> nameArgs = new ArrayList<>();
 	protected List<Object> tooltipArgs = new ArrayList<>();
 	@OnlyIn(Dist.CLIENT) private @Nullable AbstractConfigListEntry<Gui> guiEntry;
 	@OnlyIn(Dist.CLIENT) private @Nullable AbstractConfigListEntry<Gui> remoteGuiEntry;
+	@OnlyIn(Dist.CLIENT) private @Nullable FieldBuilder<Gui, ?, ?> guiBuilder;
+	@OnlyIn(Dist.CLIENT) private @Nullable FieldBuilder<Gui, ?, ?> remoteGuiBuilder;
 	protected boolean nonPersistent = false;
 	protected final Set<EntryTag> tags = new HashSet<>();
 	protected final Set<EntryTag> builtInTags = new HashSet<>();
 	protected final Set<EntryTag> allTags = Sets.union(tags, builtInTags);
 	@Internal public EntryTag copyTag;
-	protected V actualValue = null;
+	protected volatile V actualValue = null;
 	protected @Nullable ConfigValue<?> configValue = null;
+	/**
+	 * Last value decoded from the config spec, to avoid converting it on every read.<br>
+	 * Only {@link #isImmutableValue immutable} values are cached.<br>
+	 * Invalidated on {@link #set(ConfigValue, Object)} and {@link #bakeField()}, which
+	 * is called after every reload. The raw value it was decoded from is also
+	 * checked, in case the config data is replaced in some other way.
+	 */
+	private volatile @Nullable DecodedValue<V> decodedValue = null;
+	private @Nullable EntryHandle<V> handle = null;
+	/**
+	 * Slot of this entry in the {@link ConfigValueSnapshot} of its config,
+	 * allocated the first time it's baked
+	 */
+	private volatile int valueSlot = -1;
+	/**
+	 * Raw value of this entry when it was last baked by its holder
+	 */
+	private @Nullable Object bakedValue = UNBAKED;
+	private static final Object UNBAKED = new Object();
 	protected boolean ignored = false;
 	protected @Nullable ConfigEntryDelegate<V> delegate = null;
 	
@@ -519,6 +542,7 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 		  .setDefaultValue(() -> forGui(defValue))
 		  .setTooltipSupplier(this::getTooltip)
 		  .setErrorSupplier(this::getErrorFromGUI)
+		  .setAsyncValidation(asyncError)
 		  .withSaveConsumer(createSaveConsumer())
 		  .setEditableSupplier(() -> editableSupplier == null || editableSupplier.apply(parent))
 		  .withTags(getTags())
@@ -591,6 +615,9 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	public void decorateGUIBuilder(FieldBuilder<Gui, ?, ?> builder, boolean forRemote) {
 		if (forRemote) builder.withSaveConsumer(g -> {});
 		builder.withBuildListener(forRemote? this::setRemoteGuiEntry : this::setGuiEntry);
+		if (forRemote) {
+			remoteGuiBuilder = builder;
+		} else guiBuilder = builder;
 	}
 	
 	/**
@@ -634,10 +661,36 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	
 	@Internal protected void setGuiEntry(@Nullable AbstractConfigListEntry<Gui> guiEntry) {
 		this.guiEntry = guiEntry;
+		guiBuilder = null;
 	}
 	
 	@Internal protected void setRemoteGuiEntry(@Nullable AbstractConfigListEntry<Gui> guiEntry) {
 		remoteGuiEntry = guiEntry;
+		remoteGuiBuilder = null;
+	}
+	
+	/**
+	 * Builder of the GUI entry, while the entry hasn't been built yet.<br>
+	 * Config screens only build the entries of a category when it's first
+	 * displayed, so until then, the builder holds the value of the entry.
+	 */
+	@Internal protected @Nullable FieldBuilder<Gui, ?, ?> getGuiBuilder(boolean remote) {
+		return remote? remoteGuiBuilder : guiBuilder;
+	}
+	
+	/**
+	 * Get the GUI entry, building the entries of its config screen if it
+	 * hasn't been built yet, so changes to it can be recorded in the history.
+	 */
+	@OnlyIn(Dist.CLIENT) private @Nullable AbstractConfigListEntry<Gui> buildGuiEntry(boolean remote) {
+		AbstractConfigListEntry<Gui> entry = getGuiEntry(remote);
+		if (entry == null && getGuiBuilder(remote) != null) {
+			SimpleConfig root = parent.getRoot();
+			if (root.getGUI() instanceof AbstractConfigScreen screen)
+				screen.buildCategoryEntries(root.getType().asEditType(remote));
+			entry = getGuiEntry(remote);
+		}
+		return entry;
 	}
 	
 	@Internal protected void resetGuiEntry() {
@@ -645,7 +698,7 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	}
 	
 	@Internal protected void resetGuiEntry(boolean remote) {
-		AbstractConfigListEntry<Gui> entry = getGuiEntry(remote);
+		AbstractConfigListEntry<Gui> entry = buildGuiEntry(remote);
 		if (entry != null) entry.resetValue();
 	}
 	
@@ -654,13 +707,15 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	}
 	
 	@Internal protected void restoreGuiEntry(boolean remote) {
-		AbstractConfigListEntry<Gui> entry = getGuiEntry(remote);
+		AbstractConfigListEntry<Gui> entry = buildGuiEntry(remote);
 		if (entry != null) entry.restoreValue();
 	}
 	
 	protected void removeGUI() {
 		guiEntry = null;
 		remoteGuiEntry = null;
+		guiBuilder = null;
+		remoteGuiBuilder = null;
 	}
 	
 	@Internal public void setConfigValue(@Nullable ConfigValue<?> value) {
@@ -688,7 +743,63 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 		}
 		if (nonPersistent) return actualValue;
 		if (configValue == null) throw new NoSuchConfigEntryError(getGlobalPath());
-		return get(configValue);
+		final Object raw = configValue.get();
+		final DecodedValue<V> cached = decodedValue;
+		if (cached != null && cached.raw() == raw) return cached.value();
+		final V value = get(configValue);
+		if (isImmutableValue(value)) decodedValue = new DecodedValue<>(raw, value);
+		return value;
+	}
+	
+	private static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = Set.of(
+	  Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+	  Double.class, Character.class, String.class, ResourceLocation.class, Pattern.class);
+	
+	/**
+	 * Whether a value can't be mutated by its readers, so the same instance
+	 * can be returned by every {@link #get()} call.<br>
+	 * Other values, such as lists, maps or beans, are decoded on every read,
+	 * so readers mutating them can't affect later reads.<br>
+	 * Entries with other immutable value types may override this.
+	 */
+	protected boolean isImmutableValue(V value) {
+		return isImmutable(value);
+	}
+	
+	static boolean isImmutable(@Nullable Object value) {
+		return value == null || value instanceof Enum<?>
+		       || IMMUTABLE_VALUE_TYPES.contains(value.getClass());
+	}
+	
+	/**
+	 * Discard the cached decoded value, so the next read converts
+	 * the value from the config spec again
+	 */
+	@Internal public void invalidateDecodedValue() {
+		decodedValue = null;
+	}
+	
+	private record DecodedValue<V>(Object raw, V value) {}
+	
+	/**
+	 * Get a handle to the baked value of this entry, which is
+	 * updated every time this entry is baked.
+	 */
+	@Internal public synchronized EntryHandle<V> getHandle() {
+		if (handle == null) handle = new EntryHandle<>(this, (SimpleConfigImpl) getRoot());
+		return handle;
+	}
+	
+	/**
+	 * Slot of this entry in the {@link SimpleConfigImpl#getValueSnapshot() value snapshot}
+	 * of its config, or {@code -1} if it hasn't been baked yet
+	 */
+	@Internal public int getValueSlot() {
+		return valueSlot;
+	}
+	
+	void setValueSlot(int slot) {
+		valueSlot = slot;
 	}
 	
 	@Internal public void set(V value) {
@@ -742,6 +853,7 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	protected void set(ConfigValue<?> spec, V value) {
 		//noinspection unchecked
 		((ConfigValue<Object>) spec).set(forActualConfig(forConfig(value)));
+		invalidateDecodedValue();
 		bakeField();
 	}
 
@@ -751,7 +863,7 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	
 	protected boolean hasGUI(boolean remote) {
 		if (FMLEnvironment.dist != Dist.CLIENT) return false;
-		return getGuiEntry(remote) != null;
+		return getGuiEntry(remote) != null || getGuiBuilder(remote) != null;
 	}
 
 	protected Gui getGUI() {
@@ -761,7 +873,9 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	protected Gui getGUI(boolean remote) {
 		if (FMLEnvironment.dist != Dist.CLIENT) return forGui(get());
 		AbstractConfigListEntry<Gui> guiEntry = getGuiEntry(remote);
-		return guiEntry != null? guiEntry.getValue() : forGui(get());
+		if (guiEntry != null) return guiEntry.getValue();
+		FieldBuilder<Gui, ?, ?> builder = getGuiBuilder(remote);
+		return builder != null? builder.getValue() : forGui(get());
 	}
 
 	@OnlyIn(Dist.CLIENT) protected void setGUI(Gui value) {
@@ -769,16 +883,26 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 	}
 	
 	@OnlyIn(Dist.CLIENT) protected void setGUI(Gui value, boolean remote) {
-		AbstractConfigListEntry<Gui> guiEntry = getGuiEntry(remote);
+		AbstractConfigListEntry<Gui> guiEntry = buildGuiEntry(remote);
+		FieldBuilder<Gui, ?, ?> builder = getGuiBuilder(remote);
 		if (guiEntry != null) {
 			guiEntry.setValueTransparently(value);
+		} else if (builder != null) {
+			// The screen isn't available yet to build the entry, so it's
+			//   built as edited once it is
+			builder.setValue(value);
+			parent.getRoot().markUnbuiltGUIEdit(remote);
 		} else throw new IllegalStateException("Cannot set GUI value without GUI");
 	}
 	
 	@OnlyIn(Dist.CLIENT) protected void setGUIAsExternal(Gui value, boolean forRemote) {
 		AbstractConfigListEntry<Gui> guiEntry = getGuiEntry(forRemote);
+		FieldBuilder<Gui, ?, ?> builder = getGuiBuilder(forRemote);
 		if (guiEntry != null) {
 			guiEntry.setExternalValue(value);
+		} else if (builder != null) {
+			// Entries that haven't been built can't have been edited
+			builder.reloadValue(value);
 		} else throw new IllegalStateException("Cannot set GUI value for " + getGlobalPath() + " without GUI");
 	}
 	
@@ -846,10 +970,45 @@ public abstract class AbstractConfigEntry<V, Config, Gui> implements IGUIEntry {
 			setPresented(getFromBackingField());
 	}
 	
+	/**
+	 * Bake the backing field of this entry if its value may have changed
+	 * since it was last baked by its holder.<br>
+	 * Entries are always baked if they have a delegate, or a mutable raw value,
+	 * since their changes can't be tracked, or if any of their backing fields
+	 * no longer holds the value it was baked with, so fields reassigned by
+	 * mod code are still reset.
+	 * @param full Bake the entry even if its value hasn't changed
+	 * @return Whether the entry was baked
+	 */
+	@Internal protected boolean bakeFieldIfChanged(boolean full) {
+		Object raw = nonPersistent? actualValue : configValue != null? configValue.get() : null;
+		if (!full && delegate == null && bakedValue != UNBAKED && isImmutable(raw)
+		    && Objects.equals(raw, bakedValue) && backingFieldsHoldBakedValues()
+		) return false;
+		bakeField();
+		bakedValue = raw;
+		return true;
+	}
+	
+	private boolean backingFieldsHoldBakedValues() {
+		if (backingField != null && !backingField.holdsWrittenValue()) return false;
+		if (secondaryBackingFields != null) for (BackingField<V, ?> field : secondaryBackingFields)
+			if (!field.holdsWrittenValue()) return false;
+		return true;
+	}
+	
 	protected void bakeField() {
-		if (backingField != null || secondaryBackingFields != null && !secondaryBackingFields.isEmpty()) {
+		invalidateDecodedValue();
+		boolean hasBackingFields =
+		  backingField != null || secondaryBackingFields != null && !secondaryBackingFields.isEmpty();
+		boolean hasValue = delegate != null || nonPersistent || configValue != null;
+		if (!hasValue && !hasBackingFields) return;
+		V presented = getPresented();
+		if (hasValue && getRoot() instanceof SimpleConfigImpl config)
+			config.publishValue(this, presented);
+		if (hasBackingFields) {
 			try {
-				setBackingField(getPresented());
+				setBackingField(presented);
 			} catch (IllegalAccessException e) {
 				throw new ConfigReflectiveOperationException(
 				  "Could not access mod config field during config bake\n  Details: " + e.getMessage(), e);
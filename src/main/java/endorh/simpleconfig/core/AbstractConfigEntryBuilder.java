@@ -53,6 +53,7 @@ public abstract class AbstractConfigEntryBuilder<
 	protected EntryType<?> type;
 	protected boolean nonPersistent = false;
 	protected boolean ignored = false;
+	protected boolean asyncError = false;
 	protected Set<EntryTag> tags = new HashSet<>();
 	protected BackingFieldBuilder<V, ?> backingFieldBuilder;
 	protected List<BackingFieldBinding<V, ?>> backingFieldBindings = new ArrayList<>();
@@ -161,6 +162,13 @@ public abstract class AbstractConfigEntryBuilder<
 		return copy.castSelf();
 	}
 	
+	@Contract(pure=true)
+	@Override public @NotNull Self asyncError(boolean async) {
+		final SelfImpl copy = copy();
+		copy.asyncError = async;
+		return copy.castSelf();
+	}
+	
 	@Contract(pure=true)
 	@Override public @NotNull Self guiTooltip(Function<Gui, List<Component>> tooltipSupplier) {
 		final SelfImpl copy = copy();
@@ -345,6 +353,7 @@ public abstract class AbstractConfigEntryBuilder<
 		e.requireRestart = requireRestart;
 		e.experimental = experimental;
 		e.errorSupplier = errorSupplier;
+		e.asyncError = asyncError;
 		e.tooltipSupplier = tooltipSupplier;
 		e.translation = translation;
 		e.nameArgs = nameArgs;
@@ -390,6 +399,7 @@ public abstract class AbstractConfigEntryBuilder<
 		copy.translation = translation;
 		copy.buildListener = buildListener;
 		copy.errorSupplier = errorSupplier;
+		copy.asyncError = asyncError;
 		copy.tooltipSupplier = tooltipSupplier;
 		copy.nameArgs = new ArrayList<>(nameArgs);
 		copy.tooltipArgs = new ArrayList<>(tooltipArgs);
@@ -36,6 +36,11 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 	protected Map<String, AbstractConfigEntry<?, ?, ?>> entries;
 	protected Map<String, ? extends AbstractSimpleConfigEntryHolder> children;
 	protected boolean dirty = false;
+	private volatile @Nullable PathIndex pathIndex = null;
+	/**
+	 * Cached snapshot of this holder, discarded when any of its entries changes
+	 */
+	private @Nullable VersionedConfigSnapshot snapshotNode = null;
 	
 	/**
 	 * Get the root config of this entry holder
@@ -122,6 +127,50 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 		}
 	}
 	
+	/**
+	 * Get the cached snapshot of this holder, building it if any entry has changed.<br>
+	 * Must be called while holding the value lock of the root config.
+	 * @param version Version for the nodes that need to be built
+	 * @param scratch Empty config used to convert entry values
+	 * @see SimpleConfigImpl#getVersionedSnapshot()
+	 */
+	protected VersionedConfigSnapshot getSnapshotNode(long version, CommentedConfig scratch) {
+		VersionedConfigSnapshot node = snapshotNode;
+		if (node != null) return node;
+		final Map<String, Object> values = new LinkedHashMap<>();
+		for (Entry<String, ? extends AbstractSimpleConfigEntryHolder> e : children.entrySet()) {
+			final VersionedConfigSnapshot child = e.getValue().getSnapshotNode(version, scratch);
+			if (!child.isEmpty()) values.put(e.getKey(), child);
+		}
+		for (AbstractConfigEntry<?, ?, ?> entry : entries.values()) {
+			//noinspection unchecked
+			final AbstractConfigEntry<?, Object, ?> e = (AbstractConfigEntry<?, Object, ?>) entry;
+			if (!e.nonPersistent) e.put(scratch, e.apply(ee -> ee.forConfig(ee.get())));
+		}
+		values.putAll(scratch.valueMap());
+		scratch.clear();
+		return snapshotNode = new VersionedConfigSnapshot(version, values);
+	}
+	
+	/**
+	 * Discard the cached snapshot of this holder and its ancestors.<br>
+	 * Must be called while holding the value lock of the root config.
+	 */
+	protected void invalidateSnapshotNode() {
+		if (snapshotNode == null) return;
+		snapshotNode = null;
+		if (this != root) ((AbstractSimpleConfigEntryHolder) getParent()).invalidateSnapshotNode();
+	}
+	
+	/**
+	 * Discard the cached snapshots of this holder and all its descendants,
+	 * after its structure has changed.
+	 */
+	protected void clearSnapshotNodes() {
+		snapshotNode = null;
+		children.values().forEach(AbstractSimpleConfigEntryHolder::clearSnapshotNodes);
+	}
+	
 	protected void loadSnapshot(
 	  CommentedConfig config, boolean intoGUI, boolean forRemote, @Nullable Predicate<String> selectedPaths
 	) {
@@ -150,12 +199,84 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 		}
 	}
 	
+	/**
+	 * Collect into {@code delta} the values from {@code current} that differ from
+	 * {@code previous}.<br>
+	 * Both snapshots are expected to have been produced by {@link #saveSnapshot}.
+	 * Only entry holders are traversed, so entries with config-like values
+	 * (such as maps) are always compared and sent as a whole.<br>
+	 * Subtrees shared by both snapshots are skipped.
+	 * @see SnapshotDelta
+	 */
+	protected void diffSnapshot(
+	  CommentedConfig previous, CommentedConfig current, CommentedConfig delta
+	) {
+		if (previous == current) return;
+		for (Entry<String, ? extends AbstractSimpleConfigEntryHolder> e : children.entrySet()) {
+			final String key = e.getKey();
+			if (current.get(key) instanceof CommentedConfig cur) {
+				if (previous.get(key) == cur) continue;
+				final CommentedConfig subDelta = delta.createSubConfig();
+				if (previous.get(key) instanceof CommentedConfig prev) {
+					e.getValue().diffSnapshot(prev, cur, subDelta);
+				} else subDelta.putAll(cur);
+				if (!subDelta.isEmpty())
+					delta.set(key, subDelta);
+			}
+		}
+		for (Entry<String, AbstractConfigEntry<?, ?, ?>> e : entries.entrySet()) {
+			final String key = e.getKey();
+			if (!e.getValue().nonPersistent && current.contains(key)) {
+				final Object value = current.get(key);
+				if (!previous.contains(key) || !Objects.equals(previous.get(key), value))
+					delta.set(key, value);
+			}
+		}
+	}
+	
+	/**
+	 * Write the values of a partial snapshot, as produced by {@link #diffSnapshot},
+	 * into {@code target}, preserving the values of entries not contained in it.
+	 */
+	protected void mergeSnapshot(CommentedConfig target, CommentedConfig delta) {
+		for (Entry<String, ? extends AbstractSimpleConfigEntryHolder> e : children.entrySet()) {
+			final String key = e.getKey();
+			if (delta.get(key) instanceof CommentedConfig sub) {
+				CommentedConfig subTarget;
+				if (target.get(key) instanceof CommentedConfig t) {
+					subTarget = t;
+				} else target.set(key, subTarget = target.createSubConfig());
+				e.getValue().mergeSnapshot(subTarget, sub);
+			}
+		}
+		for (Entry<String, AbstractConfigEntry<?, ?, ?>> e : entries.entrySet()) {
+			final String key = e.getKey();
+			if (!e.getValue().nonPersistent && delta.contains(key))
+				target.set(key, delta.<Object>get(key));
+		}
+	}
+	
 	@OnlyIn(Dist.CLIENT)
 	protected void loadGUIExternalChanges() {
 		children.values().forEach(AbstractSimpleConfigEntryHolder::loadGUIExternalChanges);
 		entries.values().forEach(entry -> entry.accept(e -> e.setGUIAsExternal(e.forGui(e.get()), false)));
 	}
 	
+	/**
+	 * Load into the GUI only the external changes to the entries contained in a
+	 * partial snapshot, as produced by {@link #diffSnapshot}
+	 */
+	@OnlyIn(Dist.CLIENT)
+	protected void loadGUIExternalChanges(CommentedConfig delta) {
+		children.forEach((k, child) -> {
+			if (delta.get(k) instanceof CommentedConfig sub) child.loadGUIExternalChanges(sub);
+		});
+		entries.forEach((k, entry) -> {
+			if (!entry.nonPersistent && delta.contains(k))
+				entry.accept(e -> e.setGUIAsExternal(e.forGui(e.get()), false));
+		});
+	}
+	
 	protected void loadGUIRemoteExternalChanges(CommentedConfig config) {
 		children.forEach((k, child) -> {
 			Object sub = config.get(k);
@@ -206,6 +327,21 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 			child.buildConfigSpec(spec, thisPath);
 	}
 	
+	/**
+	 * Bake the backing fields of the entries below this holder which may
+	 * have changed since they were last baked.<br>
+	 * Fields are all baked before running any baker, since bakers may read
+	 * fields from other groups.
+	 * @param full Bake all entries, even if they haven't changed
+	 * @return Whether any entry was baked
+	 */
+	protected abstract boolean bakeFields(boolean full);
+	
+	/**
+	 * Run the bakers of this holder and its children.<br>
+	 * All bakers run on every bake, since they may derive state from
+	 * fields of other groups.
+	 */
 	protected abstract void bake();
 	
 	/**
@@ -238,12 +374,45 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 	 */
 	public @Nullable AbstractSimpleConfigEntryHolder getChildOrNull(String path) {
 		if (path == null || path.isEmpty()) return this;
-		final String[] split = DOT.split(path, 2);
-		if (split.length < 2) {
-			return children.get(path);
-		} else if (children.containsKey(split[0]))
-			return children.get(split[0]).getChildOrNull(split[1]);
-		return null;
+		return getPathIndex().holders().get(path);
+	}
+	
+	/**
+	 * Flat index of all the entries and entry holders below an entry holder,
+	 * by their dot-separated path relative to it.
+	 */
+	private record PathIndex(
+	  int version, Map<String, AbstractConfigEntry<?, ?, ?>> entries,
+	  Map<String, AbstractSimpleConfigEntryHolder> holders
+	) {}
+	
+	/**
+	 * Get the path index of this holder, building it if the structure of
+	 * the config has changed since it was last built.
+	 * @see SimpleConfigImpl#getStructureVersion()
+	 */
+	private PathIndex getPathIndex() {
+		PathIndex index = pathIndex;
+		int version = root.getStructureVersion();
+		if (index == null || index.version() != version) {
+			Map<String, AbstractConfigEntry<?, ?, ?>> entries = new HashMap<>();
+			Map<String, AbstractSimpleConfigEntryHolder> holders = new HashMap<>();
+			indexPaths("", entries, holders);
+			pathIndex = index = new PathIndex(version, Map.copyOf(entries), Map.copyOf(holders));
+		}
+		return index;
+	}
+	
+	private void indexPaths(
+	  String prefix, Map<String, AbstractConfigEntry<?, ?, ?>> entries,
+	  Map<String, AbstractSimpleConfigEntryHolder> holders
+	) {
+		this.entries.forEach((k, e) -> entries.put(prefix + k, e));
+		children.forEach((k, child) -> {
+			String path = prefix + k;
+			holders.put(path, child);
+			child.indexPaths(path + ".", entries, holders);
+		});
 	}
 	
 	@Override public @NotNull AbstractSimpleConfigEntryHolder getChild(String path) {
@@ -256,6 +425,7 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 		String[] split = DOT.split(name, 2);
 		if (split.length == 1) {
 			entries.remove(name);
+			root.invalidateStructure();
 		} else if (children.containsKey(split[0])) {
 			children.get(split[0]).removeEntry(split[1]);
 		} else throw new NoSuchConfigGroupError(getPath() + "." + split[0]);
@@ -265,6 +435,7 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 		String[] split = DOT.split(name, 2);
 		if (split.length == 1) {
 			children.remove(name);
+			root.invalidateStructure();
 		} else if (children.containsKey(split[0])) {
 			children.get(split[0]).removeChild(split[1]);
 		} else throw new NoSuchConfigGroupError(getPath() + "." + split[0]);
@@ -280,10 +451,8 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 	 * @see #getEntry(String)
 	 */
 	@Internal public <T, C, Gui> @Nullable AbstractConfigEntry<T, C, Gui> getEntryOrNull(String path) {
-		AbstractConfigEntry<?, ?, ?> entry = entries.get(path);
-		if (entry == null) entry = getSubEntry(path);
 		//noinspection unchecked
-		return (AbstractConfigEntry<T, C, Gui>) entry;
+		return (AbstractConfigEntry<T, C, Gui>) getPathIndex().entries().get(path);
 	}
 	
 	/**
@@ -309,14 +478,12 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 	 * the more general {@link AbstractSimpleConfigEntryHolder#getEntry(String)}
 	 * @param path Dot-separated path, containing at least one dot
 	 * @param <T> Expected type of the entry
-	 * @throws NoSuchConfigEntryError if the entry is not found
+	 * @return The entry, or null if not found
 	 */
 	protected <T> AbstractConfigEntry<T, ?, ?> getSubEntry(String path) {
-		final String[] split = DOT.split(path, 2);
-		if (split.length < 2) return null;
-		AbstractSimpleConfigEntryHolder child = getChildOrNull(split[0]);
-		if (child == null) return null;
-		return child.getEntryOrNull(split[1]);
+		if (path.indexOf('.') < 0) return null;
+		//noinspection unchecked
+		return (AbstractConfigEntry<T, ?, ?>) getPathIndex().entries().get(path);
 	}
 	
 	/**
@@ -369,6 +536,40 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 		return this.<T, Object, Object>getEntry(path).getPresented();
 	}
 	
+	@Override public <T> EntryHandle<T> handle(String path) {
+		return this.<T, Object, Object>getEntry(path).getHandle();
+	}
+	
+	@Override public EntryHandle<?> booleanHandle(String path) {
+		EntryHandle<?> handle = handle(path);
+		if (!(handle.get() instanceof Boolean))
+			throw new InvalidConfigValueTypeException(path);
+		return handle;
+	}
+	
+	@Override public EntryHandle<?> intHandle(String path) {
+		return numericHandle(path);
+	}
+	
+	@Override public EntryHandle<?> longHandle(String path) {
+		return numericHandle(path);
+	}
+	
+	@Override public EntryHandle<?> floatHandle(String path) {
+		return numericHandle(path);
+	}
+	
+	@Override public EntryHandle<?> doubleHandle(String path) {
+		return numericHandle(path);
+	}
+	
+	private EntryHandle<?> numericHandle(String path) {
+		EntryHandle<?> handle = handle(path);
+		if (!(handle.get() instanceof Number))
+			throw new InvalidConfigValueTypeException(path);
+		return handle;
+	}
+	
 	@Override public <V> void set(String path, V value) {
 		if (value instanceof Number) {
 			try {
@@ -608,13 +809,15 @@ public abstract class AbstractSimpleConfigEntryHolder implements ConfigEntryHold
 	}
 	
 	@Override public void reset() {
-		for (AbstractConfigEntry<?, ?, ?> entry : this.entries.values()) {
-			//noinspection unchecked
-			AbstractConfigEntry<Object, ?, ?> e = (AbstractConfigEntry<Object, ?, ?>) entry;
-			e.set(e.defValue);
-		}
-		for (AbstractSimpleConfigEntryHolder child: children.values())
-			child.reset();
+		getRoot().batchValueUpdates(() -> {
+			for (AbstractConfigEntry<?, ?, ?> entry : this.entries.values()) {
+				//noinspection unchecked
+				AbstractConfigEntry<Object, ?, ?> e = (AbstractConfigEntry<Object, ?, ?>) entry;
+				e.set(e.defValue);
+			}
+			for (AbstractSimpleConfigEntryHolder child: children.values())
+				child.reset();
+		});
 	}
 	
 	@Override public void reset(String path) {
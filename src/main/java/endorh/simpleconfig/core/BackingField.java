@@ -1,10 +1,14 @@
 package endorh.simpleconfig.core;
 
+import com.google.common.base.Throwables;
 import endorh.simpleconfig.api.SimpleConfig.InvalidConfigValueTypeException;
 import endorh.simpleconfig.core.SimpleConfigClassParser.SimpleConfigClassParseException;
 import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.util.Objects;
 import java.util.function.Function;
 
 import static endorh.simpleconfig.core.BackingField.BackingFieldBuilder.of;
@@ -13,6 +17,14 @@ public class BackingField<V, F> {
 	private final Field field;
 	private final Function<V, F> fieldMapper;
 	private final Function<F, V> committer;
+	// Direct accessors, resolved once, since fields are baked very often
+	private final @Nullable MethodHandle setter;
+	private final @Nullable MethodHandle getter;
+	/**
+	 * Last value written to the field, to tell if it's been reassigned since
+	 */
+	private @Nullable Object writtenValue = UNWRITTEN;
+	private static final Object UNWRITTEN = new Object();
 	
 	public static <V, F> BackingFieldBuilder<V, F> field(Function<V, F> mapper, Class<F> type) {
 		return of(mapper, EntryType.unchecked(type));
@@ -22,6 +34,8 @@ public class BackingField<V, F> {
 		this.field = field;
 		this.fieldMapper = fieldMapper;
 		this.committer = committer;
+		setter = ReflectionUtil.getStaticSetter(field);
+		getter = ReflectionUtil.getStaticGetter(field);
 	}
 	
 	public F transformValue(V value) {
@@ -29,7 +43,35 @@ public class BackingField<V, F> {
 	}
 	
 	public void setValue(V value) throws IllegalAccessException {
-		ReflectionUtil.setBackingField(getField(), transformValue(value));
+		F fieldValue = transformValue(value);
+		writtenValue = UNWRITTEN;
+		if (setter == null) {
+			ReflectionUtil.setBackingField(field, fieldValue);
+		} else try {
+			setter.invokeExact((Object) fieldValue);
+		} catch (ClassCastException e) {
+			throw new InvalidConfigValueTypeException(field.getName(), e);
+		} catch (Throwable e) {
+			Throwables.throwIfUnchecked(e);
+			throw new IllegalStateException(e);
+		}
+		writtenValue = fieldValue;
+	}
+	
+	/**
+	 * Whether the field still holds the last value written to it.<br>
+	 * Fields holding mutable values never do, since they may have been
+	 * modified in place.
+	 */
+	public boolean holdsWrittenValue() {
+		final Object written = writtenValue;
+		if (written == UNWRITTEN || !AbstractConfigEntry.isImmutable(written)) return false;
+		try {
+			return Objects.equals(getter != null? (Object) getter.invokeExact() : field.get(null), written);
+		} catch (Throwable e) {
+			// The field will be written again, reporting the error if it persists
+			return false;
+		}
 	}
 	
 	public V readValue() throws IllegalAccessException {
@@ -38,9 +80,14 @@ public class BackingField<V, F> {
 			  "Cannot commit field " + field.getDeclaringClass().getCanonicalName() + "." + field.getName());
 		try {
 			//noinspection unchecked
-			return (V) field.get(null);
+			return (V) (getter != null? (Object) getter.invokeExact() : field.get(null));
 		} catch (ClassCastException e) {
 			throw new InvalidConfigValueTypeException("", e);
+		} catch (IllegalAccessException e) {
+			throw e;
+		} catch (Throwable e) {
+			Throwables.throwIfUnchecked(e);
+			throw new IllegalStateException(e);
 		}
 	}
 	
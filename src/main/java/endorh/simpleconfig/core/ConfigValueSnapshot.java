@@ -0,0 +1,120 @@
+package endorh.simpleconfig.core;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+import java.util.Arrays;
+
+/**
+ * Immutable vector of the baked values of the entries of a config,
+ * indexed by their {@link AbstractConfigEntry#getValueSlot() value slot}.<br>
+ * Configs publish a new snapshot every time they're baked, so readers on
+ * any thread always see the values of a single bake, without locking.<br>
+ * Numeric and boolean values are also stored as primitives, so
+ * primitive reads don't need to unbox them.
+ */
+@Internal public final class ConfigValueSnapshot {
+	public static final ConfigValueSnapshot EMPTY = new ConfigValueSnapshot(
+	  new Object[0], new long[0], new double[0]);
+	private static final Object UNSET = new Object();
+	
+	private final Object[] values;
+	private final long[] longs;
+	private final double[] doubles;
+	
+	private ConfigValueSnapshot(Object[] values, long[] longs, double[] doubles) {
+		this.values = values;
+		this.longs = longs;
+		this.doubles = doubles;
+	}
+	
+	/**
+	 * Whether this snapshot contains a value for the given slot
+	 */
+	public boolean has(int slot) {
+		return slot >= 0 && slot < values.length && values[slot] != UNSET;
+	}
+	
+	@SuppressWarnings("unchecked") public <V> V get(int slot) {
+		return (V) values[slot];
+	}
+	
+	public boolean getBoolean(int slot) {
+		return longs[slot] != 0L;
+	}
+	
+	public long getLong(int slot) {
+		return longs[slot];
+	}
+	
+	public double getDouble(int slot) {
+		return doubles[slot];
+	}
+	
+	/**
+	 * Create a builder for the next snapshot, initialized with the values of this one
+	 * @param size Expected number of slots
+	 */
+	public Builder toBuilder(int size) {
+		return new Builder(this, size);
+	}
+	
+	/**
+	 * Copy of this snapshot with a single value changed
+	 */
+	public ConfigValueSnapshot with(int slot, Object value) {
+		Builder builder = toBuilder(slot + 1);
+		builder.set(slot, value);
+		return builder.build();
+	}
+	
+	/**
+	 * Mutable copy of a snapshot, which is never visible to other threads
+	 * until {@link #build() built}.
+	 */
+	public static final class Builder {
+		private Object[] values;
+		private long[] longs;
+		private double[] doubles;
+		private boolean changed = false;
+		
+		private Builder(ConfigValueSnapshot snapshot, int size) {
+			int length = Math.max(size, snapshot.values.length);
+			values = Arrays.copyOf(snapshot.values, length);
+			longs = Arrays.copyOf(snapshot.longs, length);
+			doubles = Arrays.copyOf(snapshot.doubles, length);
+			if (length > snapshot.values.length)
+				Arrays.fill(values, snapshot.values.length, length, UNSET);
+		}
+		
+		public void set(int slot, Object value) {
+			if (slot >= values.length) grow(Math.max(slot + 1, values.length * 2));
+			values[slot] = value;
+			if (value instanceof Number n) {
+				longs[slot] = n.longValue();
+				doubles[slot] = n.doubleValue();
+			} else if (value instanceof Boolean b) {
+				longs[slot] = b? 1L : 0L;
+			}
+			changed = true;
+		}
+		
+		private void grow(int length) {
+			int prev = values.length;
+			values = Arrays.copyOf(values, length);
+			longs = Arrays.copyOf(longs, length);
+			doubles = Arrays.copyOf(doubles, length);
+			Arrays.fill(values, prev, length, UNSET);
+		}
+		
+		/**
+		 * Whether any value has been set in this builder
+		 */
+		public boolean isChanged() {
+			return changed;
+		}
+		
+		public ConfigValueSnapshot build() {
+			return new ConfigValueSnapshot(values, longs, doubles);
+		}
+	}
+}
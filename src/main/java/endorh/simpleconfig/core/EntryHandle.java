@@ -0,0 +1,73 @@
+package endorh.simpleconfig.core;
+
+import endorh.simpleconfig.api.ConfigHandle;
+import endorh.simpleconfig.api.ConfigHandle.*;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Handle to the baked value of an {@link AbstractConfigEntry}.<br>
+ * Values are read from the {@link ConfigValueSnapshot} published by the
+ * config every time it's baked, so handles to different entries of
+ * the same config never observe a partially applied reload.
+ */
+@Internal public class EntryHandle<V> implements ConfigHandle<V>,
+  BooleanHandle, IntHandle, LongHandle, FloatHandle, DoubleHandle {
+	private final AbstractConfigEntry<V, ?, ?> entry;
+	private final SimpleConfigImpl config;
+	private final String path;
+	
+	protected EntryHandle(AbstractConfigEntry<V, ?, ?> entry, SimpleConfigImpl config) {
+		this.entry = entry;
+		this.config = config;
+		path = entry.getGlobalPath();
+	}
+	
+	/**
+	 * Snapshot containing the value of the entry, or {@code null}
+	 * if the entry hasn't been baked yet
+	 */
+	private @Nullable ConfigValueSnapshot snapshot() {
+		ConfigValueSnapshot snapshot = config.getValueSnapshot();
+		return snapshot.has(entry.getValueSlot())? snapshot : null;
+	}
+	
+	public String getPath() {
+		return path;
+	}
+	
+	@Override public V get() {
+		ConfigValueSnapshot snapshot = snapshot();
+		return snapshot != null? snapshot.get(entry.getValueSlot()) : entry.getPresented();
+	}
+	
+	@Override public boolean getAsBoolean() {
+		ConfigValueSnapshot snapshot = snapshot();
+		if (snapshot != null) return snapshot.getBoolean(entry.getValueSlot());
+		return entry.getPresented() instanceof Boolean b && b;
+	}
+	
+	@Override public int getAsInt() {
+		return (int) getAsLong();
+	}
+	
+	@Override public long getAsLong() {
+		ConfigValueSnapshot snapshot = snapshot();
+		if (snapshot != null) return snapshot.getLong(entry.getValueSlot());
+		return entry.getPresented() instanceof Number n? n.longValue() : 0L;
+	}
+	
+	@Override public float getAsFloat() {
+		return (float) getAsDouble();
+	}
+	
+	@Override public double getAsDouble() {
+		ConfigValueSnapshot snapshot = snapshot();
+		if (snapshot != null) return snapshot.getDouble(entry.getValueSlot());
+		return entry.getPresented() instanceof Number n? n.doubleValue() : 0D;
+	}
+	
+	@Override public String toString() {
+		return "EntryHandle[" + path + " = " + get() + "]";
+	}
+}
@@ -5,6 +5,9 @@ import endorh.simpleconfig.api.SimpleConfig.InvalidConfigValueTypeException;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -17,6 +20,7 @@ import java.util.Arrays;
  * Use at your own risk
  */
 @Internal public class ReflectionUtil {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 	
 	/**
 	 * Get the full field name, suitable for error messages
@@ -224,6 +228,57 @@ import java.util.Arrays;
 		}
 	}
 	
+	/**
+	 * Get a method handle setting a static field, with type {@code (Object)void},
+	 * casting numeric primitive values if necessary, like {@link #setBackingField}.<br>
+	 * Invalid value types throw {@link ClassCastException}.
+	 * @return The setter, or {@code null} if the field cannot be set through a handle
+	 *         (i.e., it's final or not accessible)
+	 */
+	protected static @Nullable MethodHandle getStaticSetter(Field field) {
+		final Class<?> type = Primitives.unwrap(field.getType());
+		try {
+			MethodHandle setter = LOOKUP.unreflectSetter(field);
+			if (type.isPrimitive() && type != boolean.class && type != char.class) {
+				setter = setter.asType(MethodType.methodType(void.class, type));
+				MethodHandle cast = LOOKUP.findVirtual(
+				  Number.class, type.getName() + "Value", MethodType.methodType(type));
+				setter = MethodHandles.filterArguments(setter, 0, cast);
+			}
+			return setter.asType(MethodType.methodType(void.class, Object.class));
+		} catch (IllegalAccessException | NoSuchMethodException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Get a method handle reading a static field, with type {@code ()Object}
+	 * @return The getter, or {@code null} if the field is not accessible
+	 */
+	protected static @Nullable MethodHandle getStaticGetter(Field field) {
+		try {
+			return LOOKUP.unreflectGetter(field).asType(MethodType.methodType(Object.class));
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Get a method handle invoking a static method, with type {@code (Object[])Object},
+	 * so it can be called with {@link MethodHandle#invokeExact} with the same
+	 * arguments as {@link Method#invoke}, but without the reflection overhead.
+	 * @return The invoker, or {@code null} if the method is not accessible
+	 */
+	public static @Nullable MethodHandle getStaticInvoker(Method method) {
+		try {
+			return LOOKUP.unreflect(method)
+			  .asSpreader(Object[].class, method.getParameterCount())
+			  .asType(MethodType.methodType(Object.class, Object[].class));
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+	}
+	
 	protected static Field getFieldOrNull(Class<?> clazz, String name) {
 		try {
 			final Field f = clazz.getDeclaredField(name);
@@ -0,0 +1,235 @@
+package endorh.simpleconfig.core;
+
+import endorh.simpleconfig.SimpleConfigMod;
+import endorh.simpleconfig.api.SimpleConfig.Type;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Index of the server presets saved in the {@link SimpleConfigPaths#getRemotePresetsDir()
+ * remote presets directory}, grouped by mod id.<br>
+ * The directory is only listed once, and the index is then kept up to date
+ * by watching the directory for changes, so files added or removed by hand
+ * are also noticed.<br>
+ * The contents of recently requested presets are kept in a bounded LRU cache.
+ */
+@Internal public class RemotePresetStore {
+	private static final Logger LOGGER = LogManager.getLogger();
+	private static final Pattern FILE_NAME_PATTERN = Pattern.compile(
+	  "^(?<mod>[^-]++)-(?<type>\\w++)-(?<name>.*)\\.yaml$");
+	private static final int MAX_CACHED_PRESETS = 64;
+	private static @Nullable RemotePresetStore instance = null;
+	
+	private final Path dir;
+	private final Map<String, Set<PresetKey>> index = new HashMap<>();
+	private final Map<PresetKey, byte[]> cache = new LinkedHashMap<>(16, 0.75F, true) {
+		@Override protected boolean removeEldestEntry(Map.Entry<PresetKey, byte[]> eldest) {
+			return size() > MAX_CACHED_PRESETS;
+		}
+	};
+	private @Nullable WatchService watchService = null;
+	private @Nullable Thread watchThread = null;
+	
+	/**
+	 * Saved preset, identified by its mod id, type and name
+	 */
+	public record PresetKey(String modId, Type type, String name) {
+		public String getFileName() {
+			return modId + "-" + type.getAlias() + "-" + name + ".yaml";
+		}
+		
+		public static @Nullable PresetKey fromFileName(String fileName) {
+			Matcher m = FILE_NAME_PATTERN.matcher(fileName);
+			if (!m.matches()) return null;
+			Type type = Type.fromAlias(m.group("type"));
+			if (type == null) return null;
+			return new PresetKey(m.group("mod"), type, m.group("name"));
+		}
+	}
+	
+	/**
+	 * Get the store for the current server, creating it if necessary
+	 */
+	public static synchronized RemotePresetStore get() {
+		Path dir = SimpleConfigPaths.getRemotePresetsDir();
+		if (instance == null || !instance.dir.equals(dir)) {
+			if (instance != null) instance.close();
+			instance = new RemotePresetStore(dir);
+		}
+		return instance;
+	}
+	
+	private RemotePresetStore(Path dir) {
+		this.dir = dir;
+		rescan();
+		startWatching();
+	}
+	
+	/**
+	 * List the presets saved for a mod
+	 */
+	public synchronized List<PresetKey> list(String modId) {
+		Set<PresetKey> presets = index.get(modId);
+		return presets != null? new ArrayList<>(presets) : Collections.emptyList();
+	}
+	
+	/**
+	 * Read the contents of a preset, from the cache if possible
+	 * @throws NoSuchFileException if the preset doesn't exist
+	 */
+	public byte[] read(PresetKey key) throws IOException {
+		synchronized (this) {
+			byte[] cached = cache.get(key);
+			if (cached != null) return cached;
+			if (!contains(key)) throw new NoSuchFileException(key.getFileName());
+		}
+		byte[] bytes = Files.readAllBytes(dir.resolve(key.getFileName()));
+		synchronized (this) {
+			// The file may have changed while it was read
+			if (contains(key)) cache.put(key, bytes);
+		}
+		return bytes;
+	}
+	
+	/**
+	 * Write a preset, updating the index and cache
+	 */
+	public void write(PresetKey key, byte[] data) throws IOException {
+		Path file = dir.resolve(key.getFileName());
+		if (Files.isDirectory(file))
+			throw new IllegalStateException("File already exists and is a directory");
+		Files.createDirectories(dir);
+		Files.write(file, data);
+		synchronized (this) {
+			add(key);
+			cache.put(key, data);
+		}
+	}
+	
+	/**
+	 * Delete a preset, updating the index and cache
+	 */
+	public void delete(PresetKey key) throws IOException {
+		Path file = dir.resolve(key.getFileName());
+		if (Files.isDirectory(file))
+			throw new IllegalStateException("File is a directory");
+		if (!Files.isRegularFile(file))
+			throw new IllegalArgumentException("File does not exist");
+		Files.delete(file);
+		synchronized (this) {
+			remove(key);
+		}
+	}
+	
+	private boolean contains(PresetKey key) {
+		Set<PresetKey> presets = index.get(key.modId());
+		return presets != null && presets.contains(key);
+	}
+	
+	private void add(PresetKey key) {
+		index.computeIfAbsent(key.modId(), k -> new LinkedHashSet<>()).add(key);
+	}
+	
+	private void remove(PresetKey key) {
+		Set<PresetKey> presets = index.get(key.modId());
+		if (presets != null && presets.remove(key) && presets.isEmpty())
+			index.remove(key.modId());
+		cache.remove(key);
+	}
+	
+	private synchronized void rescan() {
+		index.clear();
+		cache.clear();
+		if (!Files.isDirectory(dir)) return;
+		try (Stream<Path> files = Files.list(dir)) {
+			files.filter(Files::isRegularFile).forEach(f -> {
+				PresetKey key = PresetKey.fromFileName(f.getFileName().toString());
+				if (key != null) add(key);
+			});
+		} catch (IOException e) {
+			LOGGER.error("Error listing server presets", e);
+		}
+	}
+	
+	private void startWatching() {
+		try {
+			Files.createDirectories(dir);
+			WatchService service = dir.getFileSystem().newWatchService();
+			dir.register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+			watchService = service;
+			Thread thread = new Thread(() -> watch(service), "SimpleConfig Preset Watcher");
+			thread.setDaemon(true);
+			thread.start();
+			watchThread = thread;
+		} catch (IOException e) {
+			LOGGER.error("Couldn't watch server presets directory, changes made by hand won't be noticed", e);
+		}
+	}
+	
+	private void watch(WatchService service) {
+		try {
+			while (true) {
+				WatchKey key = service.take();
+				for (WatchEvent<?> event: key.pollEvents())
+					onEvent(event);
+				if (!key.reset()) {
+					// The directory is no longer accessible
+					rescan();
+					return;
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException ignored) {}
+	}
+	
+	private synchronized void onEvent(WatchEvent<?> event) {
+		if (event.kind() == OVERFLOW) {
+			rescan();
+			return;
+		}
+		if (!(event.context() instanceof Path path)) return;
+		PresetKey key = PresetKey.fromFileName(path.getFileName().toString());
+		if (key == null) return;
+		if (event.kind() == ENTRY_DELETE) {
+			remove(key);
+		} else {
+			add(key);
+			// Modified by hand
+			cache.remove(key);
+		}
+	}
+	
+	private void close() {
+		if (watchService != null) try {
+			watchService.close();
+		} catch (IOException e) {
+			LOGGER.warn("Error closing server presets watcher", e);
+		}
+		if (watchThread != null) watchThread.interrupt();
+	}
+	
+	@EventBusSubscriber(modid = SimpleConfigMod.MOD_ID)
+	@Internal public static class ServerStopSubscriber {
+		@SubscribeEvent public static void onServerStopped(ServerStoppedEvent event) {
+			synchronized (RemotePresetStore.class) {
+				if (instance != null) {
+					instance.close();
+					instance = null;
+				}
+			}
+		}
+	}
+}
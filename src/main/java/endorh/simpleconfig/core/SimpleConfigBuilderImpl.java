@@ -2,6 +2,7 @@ package endorh.simpleconfig.core;
 
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import endorh.simpleconfig.api.*;
+import endorh.simpleconfig.api.SimpleConfig.SyncScope;
 import endorh.simpleconfig.api.SimpleConfig.Type;
 import endorh.simpleconfig.api.ui.icon.Icon;
 import endorh.simpleconfig.core.SimpleConfigImpl.IGUIEntry;
@@ -73,6 +74,7 @@ public class SimpleConfigBuilderImpl
 	protected @Nullable Predicate<SimpleConfigCategory> categoryFilter = null;
 	protected @Nullable ResourceLocation background = null;
 	protected boolean transparent = true;
+	protected SyncScope syncScope = SyncScope.ALL;
 	protected boolean isWrapper;
 	
 	protected SimpleConfigBuilderImpl(String modId, Type type) { this(modId, type, null); }
@@ -124,6 +126,11 @@ public class SimpleConfigBuilderImpl
 		return this;
 	}
 	
+	@Override @Contract("_ -> this") public @NotNull SimpleConfigBuilderImpl withSyncScope(SyncScope scope) {
+		syncScope = scope;
+		return this;
+	}
+	
 	@OnlyIn(Dist.CLIENT)
 	@Contract("_ -> this") public SimpleConfigBuilderImpl withGUIDecorator(
 	  BiConsumer<SimpleConfig, ConfigScreenBuilder> decorator
@@ -260,6 +267,7 @@ public class SimpleConfigBuilderImpl
 		protected @Nullable Supplier<List<Component>> description = null;
 		protected Icon icon = Icon.EMPTY;
 		protected int tint = 0;
+		protected @Nullable SyncScope syncScope = null;
 		protected Class<?> configClass;
 		
 		protected @Nullable Consumer<SimpleConfigCategory> baker = null;
@@ -323,6 +331,11 @@ public class SimpleConfigBuilderImpl
 			return this;
 		}
 		
+		@Override @Contract("_ -> this") public @NotNull CategoryBuilder withSyncScope(SyncScope scope) {
+			syncScope = scope;
+			return this;
+		}
+		
 		@OnlyIn(Dist.CLIENT)
 		@Contract("_ -> this") public CategoryBuilder withGUIDecorator(
 		  BiConsumer<SimpleConfigCategory, endorh.simpleconfig.ui.api.ConfigCategoryBuilder> decorator
@@ -386,6 +399,7 @@ public class SimpleConfigBuilderImpl
 			if (!isRoot) builder.enterSection(name);
 			final SimpleConfigCategoryImpl
 			  cat = new SimpleConfigCategoryImpl(parent, name, title, isRoot, baker);
+			cat.syncScope = syncScope;
 			final Map<String, SimpleConfigGroupImpl> groups = new LinkedHashMap<>();
 			final Map<String, AbstractConfigEntry<?, ?, ?>> entriesByName = new LinkedHashMap<>();
 			entries.forEach((name, value) -> {
@@ -673,6 +687,7 @@ public class SimpleConfigBuilderImpl
 				saver = SimpleConfigImpl::checkRestart;
 			final SimpleConfigImpl
 			  config = new SimpleConfigImpl(modId, type, title, baker, saver, configClass);
+			config.syncScope = syncScope;
 			final Map<String, AbstractConfigEntry<?, ?, ?>> entriesByName = new LinkedHashMap<>();
 			final Map<String, SimpleConfigCategoryImpl> categoryMap = new LinkedHashMap<>();
 			final Map<String, SimpleConfigGroupImpl> groupMap = new LinkedHashMap<>();
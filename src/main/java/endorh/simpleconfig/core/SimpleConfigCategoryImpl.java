@@ -3,6 +3,7 @@ package endorh.simpleconfig.core;
 import endorh.simpleconfig.api.SimpleConfig.ConfigReflectiveOperationException;
 import endorh.simpleconfig.api.SimpleConfig.InvalidConfigValueException;
 import endorh.simpleconfig.api.SimpleConfig.NoSuchConfigGroupError;
+import endorh.simpleconfig.api.SimpleConfig.SyncScope;
 import endorh.simpleconfig.api.SimpleConfigCategory;
 import endorh.simpleconfig.api.SimpleConfigTextUtil;
 import endorh.simpleconfig.api.ui.icon.Icon;
@@ -52,6 +53,7 @@ public class SimpleConfigCategoryImpl extends AbstractSimpleConfigEntryHolder
 	protected @Nullable ResourceLocation background;
 	protected Icon icon = Icon.EMPTY;
 	protected int color = 0;
+	protected @Nullable SyncScope syncScope = null;
 	protected boolean isRoot;
 	
 	@Internal protected SimpleConfigCategoryImpl(
@@ -120,12 +122,8 @@ public class SimpleConfigCategoryImpl extends AbstractSimpleConfigEntryHolder
 	
 	@Override @SuppressWarnings("unused")
 	public SimpleConfigGroupImpl getGroup(String path) {
-		if (path.contains(".")) {
-			final String[] split = path.split("\\.", 2);
-			if (groups.containsKey(split[0]))
-				return groups.get(split[0]).getGroup(split[1]);
-		} else if (groups.containsKey(path))
-			return groups.get(path);
+		if (!path.isEmpty() && getChildOrNull(path) instanceof SimpleConfigGroupImpl group)
+			return group;
 		throw new NoSuchConfigGroupError(path);
 	}
 	
@@ -166,14 +164,13 @@ public class SimpleConfigCategoryImpl extends AbstractSimpleConfigEntryHolder
 			baker.accept(this);
 	}
 	
-	/**
-	 * Bakes all the backing fields<br>
-	 */
-	protected void bakeFields() {
+	@Override protected boolean bakeFields(boolean full) {
+		boolean baked = false;
 		for (SimpleConfigGroupImpl group : groups.values())
-			group.bakeFields();
+			baked |= group.bakeFields(full);
 		for (AbstractConfigEntry<?, ?, ?> entry : entries.values())
-			entry.bakeField();
+			baked |= entry.bakeFieldIfChanged(full);
+		return baked;
 	}
 	
 	/**
@@ -0,0 +1,236 @@
+package endorh.simpleconfig.core;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import com.electronwill.nightconfig.core.ConfigFormat;
+import com.electronwill.nightconfig.core.UnmodifiableCommentedConfig;
+import com.electronwill.nightconfig.core.UnmodifiableConfig;
+import com.electronwill.nightconfig.core.file.CommentedFileConfig;
+import com.electronwill.nightconfig.core.utils.CommentedConfigWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * File config which saves itself asynchronously.<br>
+ * Modifications schedule a save in a background thread, so multiple
+ * modifications within {@link #SAVE_DELAY_MS} are written only once, and
+ * the thread modifying the config never waits for the file to be written.<br>
+ * Files are written to a temporary file first, which is then moved over
+ * the config file, so a crash while saving never leaves a truncated file.<br>
+ * Pending saves are flushed when the config is {@link #close() closed},
+ * and when the JVM shuts down.
+ */
+@Internal public class SimpleConfigFileConfig extends CommentedConfigWrapper<CommentedFileConfig>
+  implements CommentedFileConfig {
+	private static final Logger LOGGER = LogManager.getLogger();
+	private static final long SAVE_DELAY_MS = 100L;
+	private static final ScheduledExecutorService EXECUTOR =
+	  Executors.newSingleThreadScheduledExecutor(r -> {
+		  Thread thread = new Thread(r, "SimpleConfig Save Thread");
+		  thread.setDaemon(true);
+		  return thread;
+	  });
+	private static final Set<SimpleConfigFileConfig> OPEN = ConcurrentHashMap.newKeySet();
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(
+		  SimpleConfigFileConfig::flushAll, "SimpleConfig Save Flush"));
+	}
+	
+	private final ConfigFormat<? extends CommentedConfig> format;
+	private final AtomicBoolean savePending = new AtomicBoolean();
+	private final Object writeLock = new Object();
+	private @Nullable Runnable saveListener = null;
+	
+	public SimpleConfigFileConfig(
+	  CommentedFileConfig config, ConfigFormat<? extends CommentedConfig> format
+	) {
+		super(config);
+		this.format = format;
+		OPEN.add(this);
+	}
+	
+	/**
+	 * Write all pending saves, blocking until they're written.
+	 */
+	public static void flushAll() {
+		OPEN.forEach(SimpleConfigFileConfig::flush);
+	}
+	
+	/**
+	 * Set a listener run after every time the file is written.
+	 */
+	public void setSaveListener(@Nullable Runnable listener) {
+		saveListener = listener;
+	}
+	
+	@Override public synchronized <T> T set(List<String> path, Object value) {
+		T result = super.set(path, value);
+		scheduleSave(SAVE_DELAY_MS);
+		return result;
+	}
+	
+	@Override public synchronized boolean add(List<String> path, Object value) {
+		boolean result = super.add(path, value);
+		scheduleSave(SAVE_DELAY_MS);
+		return result;
+	}
+	
+	@Override public synchronized <T> T remove(List<String> path) {
+		T result = super.remove(path);
+		scheduleSave(SAVE_DELAY_MS);
+		return result;
+	}
+	
+	@Override public synchronized void putAll(UnmodifiableConfig config) {
+		super.putAll(config);
+		scheduleSave(SAVE_DELAY_MS);
+	}
+	
+	@Override public synchronized void clear() {
+		super.clear();
+		scheduleSave(SAVE_DELAY_MS);
+	}
+	
+	@Override public synchronized String setComment(List<String> path, String comment) {
+		String result = super.setComment(path, comment);
+		scheduleSave(SAVE_DELAY_MS);
+		return result;
+	}
+	
+	@Override public synchronized String removeComment(List<String> path) {
+		String result = super.removeComment(path);
+		scheduleSave(SAVE_DELAY_MS);
+		return result;
+	}
+	
+	@Override public synchronized void clearComments() {
+		super.clearComments();
+		scheduleSave(SAVE_DELAY_MS);
+	}
+	
+	@Override public File getFile() {
+		return config.getFile();
+	}
+	
+	@Override public Path getNioPath() {
+		return config.getNioPath();
+	}
+	
+	/**
+	 * Schedule a save as soon as possible.<br>
+	 * Use {@link #flush()} to wait for the file to be written.
+	 */
+	@Override public void save() {
+		scheduleSave(0L);
+	}
+	
+	@Override public synchronized void load() {
+		config.load();
+	}
+	
+	/**
+	 * Flush any pending save, and stop tracking this config for the
+	 * shutdown flush.
+	 */
+	@Override public void close() {
+		flush();
+		OPEN.remove(this);
+		config.close();
+	}
+	
+	private void scheduleSave(long delay) {
+		if (savePending.compareAndSet(false, true))
+			EXECUTOR.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Write the pending save, if any, on the calling thread.<br>
+	 * If another thread is already writing it, wait until it's written.
+	 */
+	public void flush() {
+		boolean written;
+		// The pending save is claimed and written under the same lock,
+		//   so a claimed save is always written before this returns
+		synchronized (writeLock) {
+			written = savePending.getAndSet(false) && write();
+		}
+		if (written) {
+			Runnable listener = saveListener;
+			if (listener != null) listener.run();
+		}
+	}
+	
+	/**
+	 * @return Whether the file was written
+	 */
+	private boolean write() {
+		CommentedConfig snapshot;
+		synchronized (this) {
+			snapshot = copy(config);
+		}
+		Path path = getNioPath();
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try {
+			try (
+			  FileChannel channel = FileChannel.open(
+			    temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+			    StandardOpenOption.TRUNCATE_EXISTING);
+			  Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8)
+			) {
+				format.createWriter().write(snapshot, writer);
+				writer.flush();
+				// The contents must reach the disk before the move, or a crash
+				//   could still leave an empty file in place of the config
+				channel.force(true);
+			}
+			try {
+				Files.move(
+				  temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return true;
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Failed to save config file {}", path, e);
+			return false;
+		}
+	}
+	
+	/**
+	 * Deep copy of a config, so it can be written without holding its lock
+	 */
+	private CommentedConfig copy(UnmodifiableCommentedConfig config) {
+		CommentedConfig copy = CommentedConfig.of(LinkedHashMap::new, format);
+		Map<String, Object> values = copy.valueMap();
+		Map<String, String> comments = copy.commentMap();
+		for (UnmodifiableCommentedConfig.Entry entry: config.entrySet()) {
+			Object value = entry.getRawValue();
+			values.put(entry.getKey(), value instanceof UnmodifiableCommentedConfig c? copy(c) : value);
+			String comment = entry.getComment();
+			if (comment != null) comments.put(entry.getKey(), comment);
+		}
+		return copy;
+	}
+}
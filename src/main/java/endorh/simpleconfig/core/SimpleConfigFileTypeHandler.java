@@ -18,7 +18,16 @@ import org.jetbrains.annotations.ApiStatus.Internal;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.zip.CRC32C;
 
 import static endorh.simpleconfig.core.SimpleConfigPaths.DEFAULT_SERVER_CONFIG_DIR;
 
@@ -32,14 +41,14 @@ public class SimpleConfigFileTypeHandler extends ConfigFileTypeHandler {
 			if (!(config instanceof SimpleConfigModConfig c)) throw new IllegalArgumentException(
 			  "SimpleConfigFileTypeHandler can only handle SimpleConfigModConfig");
 			final Path configPath = configBasePath.resolve(c.getFileName());
-			final CommentedFileConfig configData = CommentedFileConfig.builder(
-			  configPath, c.getConfigFormat()
-			  ).sync()
-			  .preserveInsertionOrder()
-			  .autosave()
-			  .onFileNotFound((newFile, configFormat) -> setupConfigFile(config, newFile, configFormat))
-			  .writingMode(WritingMode.REPLACE)
-			  .build();
+			// Saving is handled asynchronously by the SimpleConfigFileConfig wrapper
+			final SimpleConfigFileConfig configData = new SimpleConfigFileConfig(
+			  CommentedFileConfig.builder(configPath, c.getConfigFormat())
+				  .sync()
+				  .preserveInsertionOrder()
+				  .onFileNotFound((newFile, configFormat) -> setupConfigFile(config, newFile, configFormat))
+				  .writingMode(WritingMode.REPLACE)
+				  .build(), c.getConfigFormat());
 			LOGGER.debug(CONFIG, "Built YAML config for {}", configPath.toString());
 			try {
 				configData.load();
@@ -49,8 +58,12 @@ public class SimpleConfigFileTypeHandler extends ConfigFileTypeHandler {
 			}
 			LOGGER.debug(CONFIG, "Loaded YAML config file {}", configPath.toString());
 			try {
-				FileWatcher.defaultInstance().addWatch(configPath, new SimpleConfigWatcher(
-				  config, configData, Thread.currentThread().getContextClassLoader()));
+				SimpleConfigWatcher watcher = new SimpleConfigWatcher(
+				  config, configData, Thread.currentThread().getContextClassLoader());
+				watcher.updateContentHash();
+				// Saving the file ourselves shouldn't trigger a reload
+				configData.setSaveListener(watcher::updateContentHash);
+				FileWatcher.defaultInstance().addWatch(configPath, watcher);
 				LOGGER.debug(CONFIG, "Watching YAML config file {} for changes", configPath.toString());
 			} catch (IOException e) {
 				throw new RuntimeException("Couldn't watch config file", e);
@@ -61,6 +74,7 @@ public class SimpleConfigFileTypeHandler extends ConfigFileTypeHandler {
 	
 	@Override public void unload(Path configBasePath, ModConfig config) {
 		Path configPath = configBasePath.resolve(config.getFileName());
+		if (config.getConfigData() instanceof SimpleConfigFileConfig c) c.close();
 		try {
 			FileWatcher.defaultInstance().removeWatch(configBasePath.resolve(config.getFileName()));
 		} catch (RuntimeException e) {
@@ -82,10 +96,18 @@ public class SimpleConfigFileTypeHandler extends ConfigFileTypeHandler {
 		return true;
 	}
 	
+	/**
+	 * Watches a config file for changes.<br>
+	 * Filesystem notifications are not handled immediately, but scheduled
+	 * in the {@link ReloadScheduler}, which debounces them, and skips them
+	 * if the contents of the file didn't actually change.
+	 */
 	@Internal public static class SimpleConfigWatcher implements Runnable {
 		private final ModConfig modConfig;
 		private final CommentedFileConfig commentedFileConfig;
 		private final ClassLoader realClassLoader;
+		// Written from the save thread, and read from the reload scheduler
+		private volatile long contentHash = -1L;
 		
 		SimpleConfigWatcher(
 		  final ModConfig modConfig, final CommentedFileConfig commentedFileConfig,
@@ -98,31 +120,139 @@ public class SimpleConfigFileTypeHandler extends ConfigFileTypeHandler {
 		
 		@Override
 		public void run() {
+			ReloadScheduler.schedule(this);
+		}
+		
+		/**
+		 * Reload the config file, if its contents changed since the last time
+		 * it was loaded.
+		 * @return Whether the file was reloaded
+		 */
+		protected boolean reloadIfChanged() {
 			// Force the regular classloader onto the special thread
 			Thread.currentThread().setContextClassLoader(realClassLoader);
-			if (!modConfig.getSpec().isCorrecting()) {
-				try {
-					commentedFileConfig.load();
-					if (!modConfig.getSpec().isCorrect(commentedFileConfig)) {
-						LOGGER.warn(
-						  CONFIG, "Configuration file {} is not correct. Correcting",
-						  commentedFileConfig.getFile().getAbsolutePath());
-						ConfigFileTypeHandler.backUpConfig(commentedFileConfig);
-						modConfig.getSpec().correct(commentedFileConfig);
-						commentedFileConfig.save();
-					}
-				} catch (ParsingException ex) {
-					throw new ConfigLoadingException(modConfig, ex);
-				}
+			if (modConfig.getSpec().isCorrecting()) return false;
+			long hash;
+			try {
+				hash = hashContents();
+			} catch (IOException e) {
+				// The file may be being written, a following notification will reload it
+				LOGGER.debug(CONFIG, "Couldn't read config file {}", modConfig.getFileName(), e);
+				return false;
+			}
+			if (hash == contentHash) {
 				LOGGER.debug(
-				  CONFIG, "Config file {} changed, sending notifies", modConfig.getFileName());
-				modConfig.getSpec().afterReload();
+				  CONFIG, "Config file {} contents didn't change, skipping reload",
+				  modConfig.getFileName());
+				return false;
+			}
+			contentHash = hash;
+			try {
+				commentedFileConfig.load();
+				if (!modConfig.getSpec().isCorrect(commentedFileConfig)) {
+					LOGGER.warn(
+					  CONFIG, "Configuration file {} is not correct. Correcting",
+					  commentedFileConfig.getFile().getAbsolutePath());
+					ConfigFileTypeHandler.backUpConfig(commentedFileConfig);
+					modConfig.getSpec().correct(commentedFileConfig);
+					commentedFileConfig.save();
+				}
+			} catch (ParsingException ex) {
+				throw new ConfigLoadingException(modConfig, ex);
+			}
+			LOGGER.debug(
+			  CONFIG, "Config file {} changed, sending notifies", modConfig.getFileName());
+			modConfig.getSpec().afterReload();
+			try {
+				SimpleConfigNetworkHandler.tryFireEvent(
+				  modConfig, SimpleConfigNetworkHandler.newReloading(modConfig));
+			} catch (RuntimeException e) {
+				LOGGER.error("Error updating config from file {}", modConfig.getFileName(), e);
+			}
+			return true;
+		}
+		
+		protected void updateContentHash() {
+			try {
+				contentHash = hashContents();
+			} catch (IOException e) {
+				contentHash = -1L;
+			}
+		}
+		
+		private long hashContents() throws IOException {
+			byte[] bytes = Files.readAllBytes(commentedFileConfig.getFile().toPath());
+			CRC32C crc = new CRC32C();
+			crc.update(bytes);
+			// Mix in the length to make collisions less likely
+			return (long) bytes.length << 32 | crc.getValue();
+		}
+	}
+	
+	/**
+	 * Debounces file change notifications from {@link SimpleConfigWatcher}s.<br>
+	 * Notifications are only handled once no further notifications have been
+	 * received for {@link #DEBOUNCE_MS}, or after {@link #MAX_DELAY_MS} since
+	 * the first pending one, so editors that write files in several steps
+	 * don't trigger multiple reloads.<br>
+	 * All files pending at that point are reloaded together, and the configs
+	 * they belong to are baked and synced only once.
+	 */
+	@Internal public static class ReloadScheduler {
+		private static final long DEBOUNCE_MS = 250L;
+		private static final long MAX_DELAY_MS = 2000L;
+		private static final ScheduledExecutorService EXECUTOR =
+		  Executors.newSingleThreadScheduledExecutor(r -> {
+			  Thread thread = new Thread(r, "SimpleConfig Reload Scheduler");
+			  thread.setDaemon(true);
+			  return thread;
+		  });
+		private static final Map<SimpleConfigWatcher, Boolean> pending = new LinkedHashMap<>();
+		private static ScheduledFuture<?> flushTask = null;
+		private static long firstPendingTime = 0L;
+		
+		private static synchronized void schedule(SimpleConfigWatcher watcher) {
+			long now = System.currentTimeMillis();
+			if (pending.isEmpty()) firstPendingTime = now;
+			pending.put(watcher, true);
+			if (flushTask != null) flushTask.cancel(false);
+			long delay = Math.max(0L, Math.min(DEBOUNCE_MS, firstPendingTime + MAX_DELAY_MS - now));
+			flushTask = EXECUTOR.schedule(ReloadScheduler::flush, delay, TimeUnit.MILLISECONDS);
+		}
+		
+		private static void flush() {
+			List<SimpleConfigWatcher> watchers;
+			synchronized (ReloadScheduler.class) {
+				watchers = new ArrayList<>(pending.keySet());
+				pending.clear();
+				flushTask = null;
+			}
+			// Group watchers by config, so each config is baked and synced only once
+			Map<SimpleConfigImpl, List<SimpleConfigWatcher>> batches = new LinkedHashMap<>();
+			for (SimpleConfigWatcher watcher: watchers) {
+				if (watcher.modConfig instanceof SimpleConfigModConfig c) {
+					batches.computeIfAbsent(c.getSimpleConfig(), k -> new ArrayList<>()).add(watcher);
+				} else reload(watcher);
+			}
+			batches.forEach((config, batch) -> {
+				config.beginReloadBatch();
 				try {
-					SimpleConfigNetworkHandler.tryFireEvent(
-					  modConfig, SimpleConfigNetworkHandler.newReloading(modConfig));
-				} catch (RuntimeException e) {
-					LOGGER.error("Error updating config from file {}", modConfig.getFileName(), e);
+					batch.forEach(ReloadScheduler::reload);
+				} finally {
+					try {
+						config.endReloadBatch();
+					} catch (RuntimeException e) {
+						LOGGER.error("Error updating config {}", config.getFileName(), e);
+					}
 				}
+			});
+		}
+		
+		private static void reload(SimpleConfigWatcher watcher) {
+			try {
+				watcher.reloadIfChanged();
+			} catch (RuntimeException e) {
+				LOGGER.error(CONFIG, "Error reloading config file {}", watcher.modConfig.getFileName(), e);
 			}
 		}
 	}
@@ -3,6 +3,7 @@ package endorh.simpleconfig.core;
 import endorh.simpleconfig.SimpleConfigMod;
 import endorh.simpleconfig.api.SimpleConfig;
 import endorh.simpleconfig.api.SimpleConfig.Type;
+import endorh.simpleconfig.api.SimpleConfig.SyncScope;
 import endorh.simpleconfig.api.SimpleConfigGUIManager;
 import endorh.simpleconfig.api.ui.icon.SimpleConfigIcons.Buttons;
 import endorh.simpleconfig.config.ClientConfig.OptionsButtonBehaviour;
@@ -10,6 +11,7 @@ import endorh.simpleconfig.config.ClientConfig.menu;
 import endorh.simpleconfig.config.CommonConfig;
 import endorh.simpleconfig.config.ServerConfig;
 import endorh.simpleconfig.core.SimpleConfigNetworkHandler.CSimpleConfigReleaseServerCommonConfigPacket;
+import endorh.simpleconfig.core.SimpleConfigNetworkHandler.CSimpleConfigSubscribePacket;
 import endorh.simpleconfig.ui.api.ConfigScreenBuilder;
 import endorh.simpleconfig.ui.api.ConfigScreenBuilder.IConfigScreenGUIState;
 import endorh.simpleconfig.ui.api.IDialogCapableScreen;
@@ -192,6 +194,7 @@ public final class SimpleConfigGUIManagerImpl implements SimpleConfigGUIManager
 		final List<SimpleConfigImpl> orderedConfigs = configs.values().stream()
 		  .filter(c -> c.getType() != Type.SERVER || hasPermission)
 		  .sorted(typeOrder).toList();
+		final boolean subscribe = hasPermission && shouldSubscribe(configs.get(Type.SERVER));
 		if (orderedConfigs.isEmpty()) return getNoServerDialogScreen(parentScreen);
 		final ConfigScreenBuilder builder = ConfigScreenBuilder.create(modId)
 		  .setParentScreen(parentScreen)
@@ -207,6 +210,7 @@ public final class SimpleConfigGUIManagerImpl implements SimpleConfigGUIManager
 			      && !Minecraft.getInstance().isLocalServer()
 			      && hasPermission
 			  ) new CSimpleConfigReleaseServerCommonConfigPacket(modId).send();
+			  if (subscribe) new CSimpleConfigSubscribePacket(modId, false).send();
 			  for (SimpleConfigImpl c: orderedConfigs) c.removeGUI();
 			  Minecraft.getInstance().setScreen(parentScreen);
 			  if (hotKeyDialog != null) parent.addDialog(hotKeyDialog);
@@ -215,6 +219,7 @@ public final class SimpleConfigGUIManagerImpl implements SimpleConfigGUIManager
 		guiSessions.put(modId, ++guiSession);
 		final AbstractConfigScreen gui = builder.build();
 		activeScreens.put(modId, gui);
+		if (subscribe) new CSimpleConfigSubscribePacket(modId, true).send();
 		for (SimpleConfigImpl config : orderedConfigs) config.setGUI(gui, null);
 		return gui;
 	}
@@ -234,6 +239,7 @@ public final class SimpleConfigGUIManagerImpl implements SimpleConfigGUIManager
 		final List<SimpleConfigImpl> orderedConfigs = configs.values().stream()
 		  .filter(c -> c.getType() != Type.SERVER || hasPermission)
 		  .sorted(typeOrder).toList();
+		final boolean subscribe = hasPermission && shouldSubscribe(configs.get(Type.SERVER));
 		if (orderedConfigs.isEmpty()) return getNoServerDialogScreen(parent);
 		final SimpleConfigSnapshotHandler handler = new SimpleConfigSnapshotHandler(configs);
 		final ConfigScreenBuilder builder = ConfigScreenBuilder.create(modId)
@@ -249,6 +255,7 @@ public final class SimpleConfigGUIManagerImpl implements SimpleConfigGUIManager
 			      && !Minecraft.getInstance().isLocalServer()
 			      && hasPermission
 			  ) new CSimpleConfigReleaseServerCommonConfigPacket(modId).send();
+			  if (subscribe) new CSimpleConfigSubscribePacket(modId, false).send();
 			  for (SimpleConfigImpl c: orderedConfigs) c.removeGUI();
 		  }).setTitle(Component.translatable("simpleconfig.config.title", SimpleConfigImpl.getModNameOrId(modId)))
 		  .setDefaultBackgroundTexture(defaultBackground)
@@ -264,10 +271,21 @@ public final class SimpleConfigGUIManagerImpl implements SimpleConfigGUIManager
 		guiSessions.put(modId, ++guiSession);
 		final AbstractConfigScreen gui = builder.build();
 		activeScreens.put(modId, gui);
+		if (subscribe) new CSimpleConfigSubscribePacket(modId, true).send();
 		for (SimpleConfigImpl config : orderedConfigs) config.setGUI(gui, handler);
 		return gui;
 	}
 	
+	/**
+	 * Whether the GUI should subscribe to the entries of a server config
+	 * synced only to editors
+	 */
+	private static boolean shouldSubscribe(@Nullable SimpleConfigImpl config) {
+		return config != null && config.hasSyncScope(SyncScope.EDITORS)
+		       && !Minecraft.getInstance().isLocalServer()
+		       && SimpleConfigNetworkHandler.isConnectedToSimpleConfigServer();
+	}
+	
 	/**
 	 * Build a config GUI for the specified mod id, using the current screen as parent
 	 */
@@ -136,12 +136,8 @@ public class SimpleConfigGroupImpl extends AbstractSimpleConfigEntryHolder
 	
 	
 	@Override public SimpleConfigGroupImpl getGroup(String path) {
-		if (path.contains(".")) {
-			final String[] split = path.split("\\.", 2);
-			if (groups.containsKey(split[0]))
-				return groups.get(split[0]).getGroup(split[1]);
-		} else if (groups.containsKey(path))
-			return groups.get(path);
+		if (!path.isEmpty() && getChildOrNull(path) instanceof SimpleConfigGroupImpl group)
+			return group;
 		throw new NoSuchConfigGroupError(path);
 	}
 	
@@ -269,22 +265,20 @@ public class SimpleConfigGroupImpl extends AbstractSimpleConfigEntryHolder
 		category.addEntry(buildGUI(entryBuilder, forRemote));
 	}
 	
-	@Override
-	protected void bake() {
+	@Override protected void bake() {
 		for (SimpleConfigGroupImpl group : groups.values())
 			group.bake();
 		if (baker != null)
 			baker.accept(this);
 	}
 	
-	/**
-	 * Bakes all the backing fields<br>
-	 */
-	protected void bakeFields() {
+	@Override protected boolean bakeFields(boolean full) {
+		boolean baked = false;
 		for (SimpleConfigGroupImpl group : groups.values())
-			group.bakeFields();
+			baked |= group.bakeFields(full);
 		for (AbstractConfigEntry<?, ?, ?> entry : entries.values())
-			entry.bakeField();
+			baked |= entry.bakeFieldIfChanged(full);
+		return baked;
 	}
 	
 	/**
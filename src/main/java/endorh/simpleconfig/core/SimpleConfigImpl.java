@@ -9,9 +9,11 @@ import endorh.simpleconfig.api.ConfigBuilderFactoryProxy;
 import endorh.simpleconfig.api.SimpleConfig;
 import endorh.simpleconfig.api.SimpleConfigCategory;
 import endorh.simpleconfig.api.ui.icon.Icon;
+import endorh.simpleconfig.config.ServerConfig;
 import endorh.simpleconfig.config.ServerConfig.permissions;
 import endorh.simpleconfig.core.BackingField.BackingFieldBuilder;
 import endorh.simpleconfig.core.SimpleConfigNetworkHandler.CSimpleConfigSyncPacket;
+import endorh.simpleconfig.core.SimpleConfigNetworkHandler.SSimpleConfigDeltaSyncPacket;
 import endorh.simpleconfig.core.SimpleConfigNetworkHandler.SSimpleConfigServerCommonConfigPacket;
 import endorh.simpleconfig.core.SimpleConfigNetworkHandler.SSimpleConfigSyncPacket;
 import endorh.simpleconfig.ui.api.ConfigCategoryBuilder;
@@ -80,7 +82,7 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	}
 	
 	private static final Pattern LINE_BREAK = Pattern.compile("\\R");
-
+	
 	protected final String defaultTitle;
 	protected final String tooltip;
 	protected final @Nullable Consumer<SimpleConfigImpl> saver;
@@ -110,13 +112,63 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	protected boolean transparent;
 	@OnlyIn(Dist.CLIENT) protected @Nullable AbstractConfigScreen gui;
 	protected @Nullable IConfigSnapshotHandler snapshotHandler;
-	protected Set<Player> remoteListeners = new HashSet<>();
+	/**
+	 * Players editing this config remotely.<br>
+	 * For server configs, they also receive the entries synced only to
+	 * {@link SyncScope#EDITORS}.
+	 */
+	protected Set<Player> remoteListeners = ConcurrentHashMap.newKeySet();
+	protected SyncScope syncScope = SyncScope.ALL;
 	private ModConfig modConfig;
 	private Map<String, ModConfig> extraModConfigs;
 	private ModContainer modContainer;
 	private @Nullable LiteralArgumentBuilder<CommandSourceStack> commandRoot;
 	private Map<String, NodeComments> comments = new HashMap<>();
 	private final SimpleConfigCommentedYamlFormat configFormat = SimpleConfigCommentedYamlFormat.forConfig(this);
+	/**
+	 * Version of the last synced state.<br>
+	 * On the server, incremented on every broadcast. On clients, the version
+	 * of the last state received from the server.
+	 */
+	private int syncVersion = 0;
+	private final Object valueLock = new Object();
+	private volatile ConfigValueSnapshot valueSnapshot = ConfigValueSnapshot.EMPTY;
+	private @Nullable ConfigValueSnapshot.Builder stagedValues = null;
+	private int valueSlots = 0;
+	private long snapshotVersion = 0L;
+	private int snapshotStructureVersion = -1;
+	/**
+	 * Last versioned snapshots sent to clients and editors, for delta updates
+	 */
+	private @Nullable VersionedConfigSnapshot syncedSnapshot = null;
+	private @Nullable VersionedConfigSnapshot editorSnapshot = null;
+	/**
+	 * Snapshots last loaded into the GUI, to load only the external changes
+	 */
+	private @Nullable VersionedConfigSnapshot guiSnapshot = null;
+	private @Nullable CommentedConfig remoteGUISnapshot = null;
+	/**
+	 * Whether GUI values were set before the GUI screen was available
+	 * to build their entries, for the local and remote GUI
+	 */
+	private boolean unbuiltGUIEdits = false;
+	private boolean unbuiltRemoteGUIEdits = false;
+	private @Nullable SimpleConfigSnapshotCodec.Schema snapshotSchema = null;
+	private volatile int structureVersion = 0;
+	/**
+	 * Compressed snapshot sent to players logging in, cached until the
+	 * config is baked again, or a new version is synced
+	 */
+	private volatile @Nullable byte[] loginPayload = null;
+	private int loginPayloadVersion = -1;
+	/**
+	 * Thread of the {@link SimpleConfigFileTypeHandler.ReloadScheduler} while it
+	 * reloads files of this config, to bake and sync only once for all of them.<br>
+	 * Only reloads from that thread are batched, the rest are handled immediately.
+	 */
+	private volatile @Nullable Thread reloadBatchThread = null;
+	// Only accessed from the reload batch thread
+	private boolean reloadPending = false;
 	
 	@Internal protected SimpleConfigImpl(
 	  String modId, Type type, String defaultTitle,
@@ -218,6 +270,7 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 		children.putAll(this.categories);
 		children.putAll(this.groups);
 		this.children = unmodifiableMap(children);
+		invalidateStructure();
 		defaultCategoryIcon = icon;
 		defaultCategoryColor = color;
 		this.commandRoot = commandRoot;
@@ -251,39 +304,41 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	@Override
 	public @Nullable <T, C, Gui> AbstractConfigEntry<T, C, Gui> getEntryOrNull(String path) {
 		if (path.startsWith(".")) path = path.substring(1);
-		AbstractConfigEntry<?, ?, ?> entry = entries.get(path);
-		if (entry == null) entry = getSubEntry(path);
-		//noinspection unchecked
-		return (AbstractConfigEntry<T, C, Gui>) entry;
+		return super.getEntryOrNull(path);
 	}
 	
 	@Override public @Nullable AbstractSimpleConfigEntryHolder getChildOrNull(String path) {
-		String[] split = DOT.split(path, 2);
-		if (split[0].isEmpty()) return super.getChildOrNull(split[1]);
+		if (path != null && path.startsWith(".")) path = path.substring(1);
 		return super.getChildOrNull(path);
 	}
 	
 	@Override protected <T> AbstractConfigEntry<T, ?, ?> getSubEntry(String path) {
-		String[] split = DOT.split(path, 2);
-		if (split[0].isEmpty()) {
-			AbstractConfigEntry<?, ?, ?> entry = entries.get(split[1]);
-			if (entry != null) //noinspection unchecked
-				return (AbstractConfigEntry<T, ?, ?>) entry;
-			return super.getSubEntry(split[1]);
-		}
+		if (path.startsWith(".")) path = path.substring(1);
 		return super.getSubEntry(path);
 	}
 	
 	/**
-	 * Bakes all the backing fields<br>
+	 * Version of the structure of this config, incremented every time
+	 * entries or entry holders are added or removed, so holders know when
+	 * to rebuild their path indices.
 	 */
-	protected void bakeFields() {
+	@Internal public int getStructureVersion() {
+		return structureVersion;
+	}
+	
+	@Internal protected void invalidateStructure() {
+		structureVersion++;
+	}
+	
+	@Override protected boolean bakeFields(boolean full) {
+		boolean baked = false;
 		for (SimpleConfigCategoryImpl cat : categories.values())
-			cat.bakeFields();
+			baked |= cat.bakeFields(full);
 		for (SimpleConfigGroupImpl group : groups.values())
-			group.bakeFields();
+			baked |= group.bakeFields(full);
 		for (AbstractConfigEntry<?, ?, ?> entry : entries.values())
-			entry.bakeField();
+			baked |= entry.bakeFieldIfChanged(full);
+		return baked;
 	}
 	
 	/**
@@ -307,10 +362,31 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	}
 	
 	/**
-	 * Bake the fields and run the bakers
+	 * Bake the fields of the entries changed since the last bake,
+	 * and run the bakers
+	 * @see #bake(boolean)
 	 */
 	@Override public void bake() {
-		bakeFields();
+		bake(false);
+	}
+	
+	/**
+	 * Bake the fields and run the bakers
+	 * @param full Bake all entries, even if they haven't
+	 *             changed since the last bake
+	 */
+	public void bake(boolean full) {
+		synchronized (valueLock) {
+			// Values baked by the entries are staged, and published all at once
+			batchValueUpdates(() -> {
+				if (bakeFields(full)) loginPayload = null;
+			});
+			// Bakers must see the baked values, even if baking within a batch
+			if (stagedValues != null && stagedValues.isChanged()) {
+				valueSnapshot = stagedValues.build();
+				stagedValues = valueSnapshot.toBuilder(valueSlots);
+			}
+		}
 		for (SimpleConfigCategoryImpl cat : categories.values())
 			cat.bake();
 		for (SimpleConfigGroupImpl group : groups.values())
@@ -319,6 +395,77 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 			baker.accept(this);
 	}
 	
+	/**
+	 * Immutable snapshot of the baked values of all entries in this config.<br>
+	 * Replaced as a whole every time the config is baked, so it's always
+	 * consistent, and can be read from any thread without locking.
+	 */
+	@Internal public ConfigValueSnapshot getValueSnapshot() {
+		return valueSnapshot;
+	}
+	
+	/**
+	 * Run an action setting many entries, publishing their values all at once
+	 * when it ends, rather than copying the value snapshot for each entry.<br>
+	 * Batches may be nested, only the outermost one publishes the values.
+	 */
+	@Internal public void batchValueUpdates(Runnable action) {
+		synchronized (valueLock) {
+			if (stagedValues != null) {
+				action.run();
+				return;
+			}
+			stagedValues = valueSnapshot.toBuilder(valueSlots);
+			try {
+				action.run();
+			} finally {
+				ConfigValueSnapshot.Builder staged = stagedValues;
+				stagedValues = null;
+				if (staged.isChanged()) valueSnapshot = staged.build();
+			}
+		}
+	}
+	
+	/**
+	 * Publish the baked value of an entry.<br>
+	 * During a {@link #bake(boolean) bake} or a {@link #batchValueUpdates batch},
+	 * the value is only staged, until it ends.
+	 */
+	@Internal protected void publishValue(AbstractConfigEntry<?, ?, ?> entry, Object value) {
+		synchronized (valueLock) {
+			int slot = entry.getValueSlot();
+			if (slot < 0) entry.setValueSlot(slot = valueSlots++);
+			if (stagedValues != null) {
+				stagedValues.set(slot, value);
+			} else valueSnapshot = valueSnapshot.with(slot, value);
+			if (entry.getParent() instanceof AbstractSimpleConfigEntryHolder holder)
+				holder.invalidateSnapshotNode();
+		}
+	}
+	
+	/**
+	 * Persistent snapshot of the values of this config as of its last bake.<br>
+	 * Only the holders with entries changed since the previous snapshot are
+	 * visited, the rest share their nodes with it, so taking snapshots and
+	 * {@link VersionedConfigSnapshot#diff diffing} consecutive ones is cheap.<br>
+	 * The same instance is returned until any entry changes.
+	 */
+	@Internal public VersionedConfigSnapshot getVersionedSnapshot() {
+		synchronized (valueLock) {
+			if (snapshotStructureVersion != getStructureVersion()) {
+				clearSnapshotNodes();
+				snapshotStructureVersion = getStructureVersion();
+			}
+			return getSnapshotNode(snapshotVersion + 1, CommentedConfig.of(LinkedHashMap::new, configFormat));
+		}
+	}
+	
+	@Override protected VersionedConfigSnapshot getSnapshotNode(long version, CommentedConfig scratch) {
+		VersionedConfigSnapshot node = super.getSnapshotNode(version, scratch);
+		if (node.getVersion() == version) snapshotVersion = version;
+		return node;
+	}
+	
 	@OnlyIn(Dist.CLIENT) @Override protected void removeGUI() {
 		// Synchronization is needed, because the file watcher thread may trigger
 		// a reload, which could start loading external changes using the snapshot
@@ -326,6 +473,9 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 		synchronized (this) {
 			gui = null;
 			snapshotHandler = null;
+			guiSnapshot = null;
+			remoteGUISnapshot = null;
+			unbuiltGUIEdits = unbuiltRemoteGUIEdits = false;
 		}
 		super.removeGUI();
 	}
@@ -335,6 +485,48 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	) {
 		this.gui = gui;
 		snapshotHandler = handler;
+		guiSnapshot = getVersionedSnapshot();
+		// Edited entries must be built to be saved
+		if (unbuiltGUIEdits) gui.buildCategoryEntries(type.asEditType(false));
+		if (unbuiltRemoteGUIEdits) gui.buildCategoryEntries(type.asEditType(true));
+		unbuiltGUIEdits = unbuiltRemoteGUIEdits = false;
+	}
+	
+	/**
+	 * Record that a GUI value was set before the GUI screen was available,
+	 * so the entries of this config are built as soon as it is
+	 */
+	@OnlyIn(Dist.CLIENT) @Internal public void markUnbuiltGUIEdit(boolean remote) {
+		if (remote) {
+			unbuiltRemoteGUIEdits = true;
+		} else unbuiltGUIEdits = true;
+	}
+	
+	/**
+	 * Load into the GUI only the entries changed since the GUI was built,
+	 * or since the last time external changes were loaded.
+	 */
+	@OnlyIn(Dist.CLIENT) @Override protected void loadGUIExternalChanges() {
+		final VersionedConfigSnapshot previous = guiSnapshot;
+		final VersionedConfigSnapshot current = getVersionedSnapshot();
+		guiSnapshot = current;
+		if (previous == null) {
+			super.loadGUIExternalChanges();
+			return;
+		}
+		final SnapshotDelta delta = SnapshotDelta.diff(this, previous, current);
+		if (!delta.isEmpty()) loadGUIExternalChanges(delta.getValues());
+	}
+	
+	/**
+	 * Load into the remote GUI only the entries changed since the last
+	 * remote snapshot received.
+	 */
+	@Override protected void loadGUIRemoteExternalChanges(CommentedConfig config) {
+		final CommentedConfig previous = remoteGUISnapshot;
+		remoteGUISnapshot = config;
+		super.loadGUIRemoteExternalChanges(
+		  previous != null? SnapshotDelta.diff(this, previous, config).getValues() : config);
 	}
 	
 	protected @Nullable IConfigSnapshotHandler getSnapshotHandler() {
@@ -384,12 +576,147 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	
 	@Internal public void syncToClients() {
 		if (type == Type.SERVER) {
-			new SSimpleConfigSyncPacket(this).sendToAll();
+			if (ServerConfig.network.delta_sync && !isWrapper()) {
+				syncDeltaToClients();
+			} else synchronized (this) {
+				syncVersion++;
+				syncedSnapshot = null;
+				final CommentedConfig snapshot = takeSyncSnapshot(false);
+				if (!snapshot.isEmpty()) new SSimpleConfigSyncPacket(this, snapshot).sendToAll();
+			}
+			syncToEditors();
 		} else if (type == Type.COMMON) {
 			new SSimpleConfigServerCommonConfigPacket(this).sendTo(remoteListeners);
 		}
 	}
 	
+	/**
+	 * Send only the entries changed since the last broadcast to all clients.<br>
+	 * Does nothing if no entry has changed.
+	 */
+	protected synchronized void syncDeltaToClients() {
+		final VersionedConfigSnapshot previous = syncedSnapshot;
+		final VersionedConfigSnapshot current = getVersionedSnapshot();
+		if (previous == current) return;
+		syncedSnapshot = current;
+		final Predicate<String> synced = k -> getSyncScope(k).isSyncedTo(false);
+		if (previous == null) {
+			final CommentedConfig snapshot = current.toConfig(configFormat, synced);
+			if (snapshot.isEmpty()) return;
+			syncVersion++;
+			new SSimpleConfigSyncPacket(this, snapshot).sendToAll();
+			return;
+		}
+		final CommentedConfig delta = CommentedConfig.of(LinkedHashMap::new, configFormat);
+		current.diff(previous, delta, synced);
+		if (delta.isEmpty()) return;
+		final int baseVersion = syncVersion++;
+		new SSimpleConfigDeltaSyncPacket(this, baseVersion, delta).sendToAll();
+	}
+	
+	/**
+	 * Send the entries synced only to {@link SyncScope#EDITORS} to the players
+	 * editing this config.<br>
+	 * Does nothing if none of them has changed since the last time.
+	 */
+	protected synchronized void syncToEditors() {
+		if (!hasSyncScope(SyncScope.EDITORS)) return;
+		final VersionedConfigSnapshot previous = editorSnapshot;
+		final VersionedConfigSnapshot current = getVersionedSnapshot();
+		if (previous == current) return;
+		editorSnapshot = current;
+		// Players may lose their permissions while editing
+		remoteListeners.removeIf(p -> !permissions.permissionFor(p, modId).getLeft().canView());
+		if (remoteListeners.isEmpty()) return;
+		final Predicate<String> editorOnly = k -> getSyncScope(k) == SyncScope.EDITORS;
+		if (previous != null) {
+			final CommentedConfig delta = CommentedConfig.of(LinkedHashMap::new, configFormat);
+			current.diff(previous, delta, editorOnly);
+			if (delta.isEmpty()) return;
+		}
+		// Editor entries are sent whole, since sync packets replace top level keys
+		final CommentedConfig snapshot = current.toConfig(configFormat, editorOnly);
+		if (!snapshot.isEmpty()) new SSimpleConfigSyncPacket(this, snapshot).sendTo(remoteListeners);
+	}
+	
+	/**
+	 * Sync scope of a top level key of this config, either a category, or
+	 * an entry or group in the default category.
+	 */
+	@Internal public SyncScope getSyncScope(String key) {
+		final SimpleConfigCategoryImpl category = categories.get(key);
+		return category != null && category.syncScope != null? category.syncScope : syncScope;
+	}
+	
+	@Internal public boolean hasSyncScope(SyncScope scope) {
+		if (syncScope == scope) return true;
+		for (SimpleConfigCategoryImpl category: categories.values())
+			if (category.syncScope == scope) return true;
+		return false;
+	}
+	
+	/**
+	 * Take a snapshot of the entries synced to a player.
+	 * @param editor Whether the player is editing this config
+	 */
+	@Internal public CommentedConfig takeSyncSnapshot(boolean editor) {
+		return filterSyncSnapshot(takeSnapshot(false, false), editor);
+	}
+	
+	/**
+	 * Take a snapshot of the entries synced only to editors
+	 */
+	@Internal public CommentedConfig takeEditorSnapshot() {
+		final CommentedConfig snapshot = takeSnapshot(false, false);
+		snapshot.valueMap().keySet().removeIf(k -> getSyncScope(k) != SyncScope.EDITORS);
+		return snapshot;
+	}
+	
+	/**
+	 * Remove from a snapshot the entries not synced to a player.
+	 * @param editor Whether the player is editing this config
+	 * @return The same snapshot
+	 */
+	@Internal public CommentedConfig filterSyncSnapshot(CommentedConfig snapshot, boolean editor) {
+		if (type == Type.SERVER)
+			snapshot.valueMap().keySet().removeIf(k -> !getSyncScope(k).isSyncedTo(editor));
+		return snapshot;
+	}
+	
+	/**
+	 * Ensure a baseline for delta updates exists, so clients receiving
+	 * the current state can be sent deltas afterwards.
+	 */
+	@Internal protected synchronized void initSyncBaseline() {
+		if (syncedSnapshot == null && ServerConfig.network.delta_sync && !isWrapper())
+			syncedSnapshot = getVersionedSnapshot();
+	}
+	
+	/**
+	 * Compressed encoded snapshot of the current state, to be sent to players
+	 * logging in.<br>
+	 * Reused until the config is baked again, so mass logins don't have to encode
+	 * the config for every player.
+	 */
+	@Internal protected synchronized byte[] getLoginPayload() {
+		byte[] payload = loginPayload;
+		if (payload == null || loginPayloadVersion != syncVersion) {
+			payload = SimpleConfigSnapshotCodec.deflate(
+			  SimpleConfigSnapshotCodec.encode(this, takeSyncSnapshot(false)));
+			loginPayload = payload;
+			loginPayloadVersion = syncVersion;
+		}
+		return payload;
+	}
+	
+	@Internal public int getSyncVersion() {
+		return syncVersion;
+	}
+	
+	@Internal protected void setSyncVersion(int syncVersion) {
+		this.syncVersion = syncVersion;
+	}
+	
 	@Internal public void syncToServer() {
 		if (SimpleConfigNetworkHandler.isConnectedToSimpleConfigServer())
 			new CSimpleConfigSyncPacket(this).send();
@@ -403,6 +730,14 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 		remoteListeners.remove(listener);
 	}
 	
+	@Internal protected boolean isRemoteListener(Player player) {
+		return remoteListeners.contains(player);
+	}
+	
+	@Internal protected static void removeRemoteListenerFromAll(Player listener) {
+		INSTANCES.values().forEach(c -> c.removeRemoteListener(listener));
+	}
+	
 	@Internal public CommentedConfig takeSnapshot(boolean fromGUI, boolean fromRemote) {
 		return takeSnapshot(fromGUI, fromRemote, (Predicate<String>) null);
 	}
@@ -449,6 +784,8 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 		if (intoGUI) {
 			if (FMLEnvironment.dist != Dist.CLIENT) throw new IllegalStateException(
 			  "Cannot load snapshot into GUI on server");
+			// The next remote external changes must be loaded in full
+			if (forRemote) remoteGUISnapshot = null;
 			AbstractConfigScreen screen = getGUI();
 			if (screen != null) {
 				if (opaque) {
@@ -458,7 +795,7 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 				  () -> super.loadSnapshot(config, true, forRemote, selectedPaths));
 			} else throw new IllegalStateException(
 			  "Cannot load snapshot into GUI when no GUI is active");
-		} else super.loadSnapshot(config, false, forRemote, selectedPaths);
+		} else batchValueUpdates(() -> super.loadSnapshot(config, false, forRemote, selectedPaths));
 	}
 	
 	/**
@@ -469,18 +806,43 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 		if (event instanceof ModConfigEvent.Unloading) return;
 		final ModConfig c = event.getConfig();
 		if (c == getModConfig() || getExtraModConfigs().containsValue(c)) {
-			bake();
-			if (type == Type.SERVER || type == Type.COMMON)
-				DistExecutor.unsafeRunWhenOn(Dist.DEDICATED_SERVER, () -> this::syncToClients);
-			DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
-				synchronized (this) {
-					IConfigSnapshotHandler handler = getSnapshotHandler();
-					if (handler != null) handler.notifyExternalChanges(this);
-				}
-			});
+			if (Thread.currentThread() == reloadBatchThread) {
+				reloadPending = true;
+			} else onReloaded();
 		}
 	}
 	
+	/**
+	 * Batch the reloads of this config triggered from the current thread
+	 * until {@link #endReloadBatch()} is called from it
+	 */
+	@Internal public void beginReloadBatch() {
+		reloadPending = false;
+		reloadBatchThread = Thread.currentThread();
+	}
+	
+	@Internal public void endReloadBatch() {
+		if (reloadBatchThread != Thread.currentThread()) throw new IllegalStateException(
+		  "Reload batch ended from a different thread");
+		reloadBatchThread = null;
+		if (reloadPending) {
+			reloadPending = false;
+			onReloaded();
+		}
+	}
+	
+	private void onReloaded() {
+		bake();
+		if (type == Type.SERVER || type == Type.COMMON)
+			DistExecutor.unsafeRunWhenOn(Dist.DEDICATED_SERVER, () -> this::syncToClients);
+		DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+			synchronized (this) {
+				IConfigSnapshotHandler handler = getSnapshotHandler();
+				if (handler != null) handler.notifyExternalChanges(this);
+			}
+		});
+	}
+	
 	@Override public @NotNull SimpleConfigCategoryImpl getCategory(String name) {
 		if (!categories.containsKey(name))
 			throw new NoSuchConfigCategoryError(getPath() + "." + name);
@@ -488,12 +850,11 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 	}
 	
 	@Override public @NotNull SimpleConfigGroupImpl getGroup(String path) {
-		if (path.contains(".")) {
-			final String[] split = path.split("\\.", 2);
-			if (groups.containsKey(split[0]))
-				return groups.get(split[1]).getGroup(split[1]);
-		} else if (groups.containsKey(path))
-			return groups.get(path);
+		// Only groups under a top level group, not under categories
+		int dot = path.indexOf('.');
+		if (groups.containsKey(dot < 0? path : path.substring(0, dot))
+		    && getChildOrNull(path) instanceof SimpleConfigGroupImpl group)
+			return group;
 		throw new NoSuchConfigGroupError(path);
 	}
 	
@@ -549,7 +910,7 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 			configBuilder.setDefaultBackgroundTexture(background);
 		configBuilder.setTransparentBackground(transparent);
 		ConfigFieldBuilder entryBuilder = configBuilder.entryBuilder();
-		if (!order.isEmpty()) {
+		if (!order.isEmpty() && !isHiddenFromGUI("")) {
 			final ConfigCategoryBuilder category = configBuilder.getOrCreateCategory(
 			  "", type.asEditType(forRemote));
 			category.setEditable(canEdit());
@@ -567,12 +928,24 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 				entry.buildGUI(category, entryBuilder, forRemote);
 		}
 		for (SimpleConfigCategoryImpl cat : categories.values())
-			if (categoryFilter == null || categoryFilter.test(cat))
+			if ((categoryFilter == null || categoryFilter.test(cat)) && !isHiddenFromGUI(cat.getName()))
 				cat.buildGUI(configBuilder, entryBuilder, forRemote);
 		if (decorator != null)
 			decorator.accept(this, configBuilder);
 	}
 	
+	/**
+	 * Whether a top level key of a server config isn't synced to this client,
+	 * so the GUI could only display its default values, and its edits
+	 * would be discarded by the server.<br>
+	 * The default category uses the empty key.
+	 */
+	@OnlyIn(Dist.CLIENT)
+	protected boolean isHiddenFromGUI(String key) {
+		return type == Type.SERVER && !Minecraft.getInstance().isLocalServer()
+		       && getSyncScope(key) == SyncScope.NONE;
+	}
+	
 	// null config implies deletion
 	protected CompletableFuture<Void> saveLocalPreset(String name, @Nullable CommentedConfig config) {
 		final String typePrefix = "-" + getType().getAlias() + "-";
@@ -648,6 +1021,15 @@ public class SimpleConfigImpl extends AbstractSimpleConfigEntryHolder implements
 		return configFormat;
 	}
 	
+	/**
+	 * Schema used to encode snapshots sent through the network
+	 */
+	@Internal public SimpleConfigSnapshotCodec.Schema getSnapshotSchema() {
+		SimpleConfigSnapshotCodec.Schema schema = snapshotSchema;
+		if (schema == null) snapshotSchema = schema = SimpleConfigSnapshotCodec.Schema.of(this);
+		return schema;
+	}
+	
 	@Internal public ModConfig getModConfig() {
 		return modConfig;
 	}
@@ -1,13 +1,14 @@
 package endorh.simpleconfig.core;
 
 import com.electronwill.nightconfig.core.CommentedConfig;
-import com.electronwill.nightconfig.core.file.CommentedFileConfig;
 import com.electronwill.nightconfig.core.io.ParsingException;
 import com.electronwill.nightconfig.core.io.WritingException;
 import com.google.common.collect.Lists;
 import endorh.simpleconfig.SimpleConfigMod;
 import endorh.simpleconfig.api.SimpleConfig;
 import endorh.simpleconfig.api.SimpleConfig.Type;
+import endorh.simpleconfig.core.RemotePresetStore.PresetKey;
+import endorh.simpleconfig.config.ServerConfig;
 import endorh.simpleconfig.config.ServerConfig.permissions;
 import endorh.simpleconfig.core.wrap.MinecraftServerConfigWrapper;
 import endorh.simpleconfig.ui.api.ConfigScreenBuilder.IConfigSnapshotHandler;
@@ -31,6 +32,10 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.config.IConfigEvent;
@@ -44,6 +49,7 @@ import net.minecraftforge.network.NetworkEvent.Context;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
+import net.minecraftforge.network.simple.SimpleChannel.MessageBuilder;
 import net.minecraftforge.server.ServerLifecycleHooks;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -62,12 +68,16 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.NoSuchFileException;
 import java.rmi.RemoteException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
@@ -133,10 +143,15 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		}
 	}
 	
+	/**
+	 * Send a message to all operators.<br>
+	 * May be called from packet worker threads, the message is sent from the server thread.
+	 */
 	private static void broadcastToOperators(Component message) {
-		ServerLifecycleHooks.getCurrentServer().getPlayerList().getPlayers().stream()
+		MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+		server.execute(() -> server.getPlayerList().getPlayers().stream()
 		  .filter(p -> p.hasPermissions(2))
-		  .forEach(p -> p.sendSystemMessage(message));
+		  .forEach(p -> p.sendSystemMessage(message)));
 	}
 	
 	public static class ConfigUpdateReflectionError extends RuntimeException {
@@ -177,9 +192,33 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 	}
 	private static void tryUpdateConfig(
 	  final SimpleConfigImpl config, final byte[] fileData, boolean set
+	) {
+		tryUpdateConfig(config, deserializeSnapshot(config, fileData), set);
+	}
+	private static void tryUpdateConfig(
+	  final SimpleConfigImpl config, final @Nullable CommentedConfig sentConfig, boolean set
+	) {
+		tryUpdateConfig(config, sentConfig, null, set);
+	}
+	
+	/**
+	 * Apply a snapshot replacing top level keys, followed by a partial snapshot
+	 * with entries under other top level keys, firing a single reloading event.
+	 */
+	private static void tryUpdateConfig(
+	  final SimpleConfigImpl config, final @Nullable CommentedConfig sentConfig,
+	  final @Nullable CommentedConfig delta
+	) {
+		if (sentConfig == null) {
+			tryApplyDelta(config, delta);
+		} else tryUpdateConfig(config, sentConfig, delta, false);
+	}
+	
+	private static void tryUpdateConfig(
+	  final SimpleConfigImpl config, final @Nullable CommentedConfig sentConfig,
+	  final @Nullable CommentedConfig delta, boolean set
 	) {
 		ModConfig modConfig = config.getModConfig();
-		CommentedConfig sentConfig = deserializeSnapshot(config, fileData);
 		if (sentConfig == null) return;
 		try {
 			Map<String, ModConfig> extraConfigs = config.getExtraModConfigs();
@@ -196,9 +235,11 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		}
 		if (modConfig == null) {
 			// Minecraft Gamerules Simple Config wrapper
+			if (delta != null) config.mergeSnapshot(sentConfig, delta);
 			config.loadSnapshot(sentConfig, false, false);
 		} else try {
 			putOrSet(set, modConfig, sentConfig);
+			if (delta != null) config.mergeSnapshot(modConfig.getConfigData(), delta);
 			modConfig.getSpec().afterReload();
 			
 			tryFireEvent(modConfig, newReloading(modConfig));
@@ -206,45 +247,331 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			LOGGER.error("Failed to parse synced server config for mod " + config.getModId(), e);
 		}
 	}
+	/**
+	 * Apply a partial snapshot, as sent by {@link SSimpleConfigDeltaSyncPacket},
+	 * leaving the entries not contained in it untouched.
+	 */
+	private static void tryApplyDelta(final SimpleConfigImpl config, final byte[] fileData) {
+		tryApplyDelta(config, deserializeSnapshot(config, fileData));
+	}
+	
+	/**
+	 * Apply a partial snapshot, such as a {@link SnapshotDelta} or a patch,
+	 * leaving the entries not contained in it untouched.
+	 */
+	private static void tryApplyDelta(final SimpleConfigImpl config, final @Nullable CommentedConfig delta) {
+		ModConfig modConfig = config.getModConfig();
+		if (delta == null) return;
+		if (modConfig == null) {
+			config.loadSnapshot(delta, false, false);
+		} else try {
+			config.mergeSnapshot(modConfig.getConfigData(), delta);
+			modConfig.getSpec().afterReload();
+			
+			tryFireEvent(modConfig, newReloading(modConfig));
+		} catch (IllegalStateException | ParsingException e) {
+			LOGGER.error("Failed to apply synced server config changes for mod " + config.getModId(), e);
+		}
+	}
+	
 	private static void putOrSet(boolean set, ModConfig config, CommentedConfig data) {
 		if (set) {
 			trySetConfigData(config, data);
 		} else config.getConfigData().putAll(data);
 	}
 	
+	/**
+	 * Decode a snapshot encoded by {@link #serializeSnapshot}
+	 */
 	protected static CommentedConfig deserializeSnapshot(
 	  final SimpleConfigImpl config, final byte[] fileData
 	) {
-		SimpleConfigCommentedYamlFormat format = config.getConfigFormat();
 		try {
-			return format.createParser(false).parse(new ByteArrayInputStream(fileData));
+			return SimpleConfigSnapshotCodec.decode(config, fileData);
 		} catch (IllegalStateException | ParsingException e) {
 			LOGGER.error("Failed to parse synced server config for mod " + config.getModId(), e);
 			return null;
 		}
 	}
 	
+	/**
+	 * Encode a snapshot to be sent through the network.<br>
+	 * Uses the binary {@link SimpleConfigSnapshotCodec} format, rather than YAML,
+	 * which is only used for files.
+	 */
 	protected static byte[] serializeSnapshot(
 	  SimpleConfigImpl config, @Nullable CommentedConfig snapshot
 	) {
+		if (snapshot == null) snapshot = config.takeSnapshot(false, false);
+		return SimpleConfigSnapshotCodec.encode(config, snapshot);
+	}
+	
+	// Update batching ------------------------------------------------
+	
+	/**
+	 * Updates received from players for a config within the same batching window.<br>
+	 * Only accessed from the server thread.
+	 */
+	private static class PendingUpdate {
+		private final SimpleConfigImpl config;
+		private final long deadline;
+		private @Nullable CommentedConfig snapshot = null;
+		private @Nullable SnapshotDelta patch = null;
+		private final Set<String> updatedBy = new LinkedHashSet<>();
+		private final Set<String> patchedBy = new LinkedHashSet<>();
+		private final Map<ServerPlayer, List<Component>> reports = new LinkedHashMap<>();
+		private boolean requireRestart = false;
+		private boolean resync = false;
+		
+		private PendingUpdate(SimpleConfigImpl config, long deadline) {
+			this.config = config;
+			this.deadline = deadline;
+		}
+		
+		private void merge(@Nullable CommentedConfig update) {
+			if (update == null) return;
+			// Updates replace top level keys wholesale, so merging them
+			//   in order is equivalent to applying them in order
+			if (snapshot == null) {
+				snapshot = update;
+			} else snapshot.putAll(update);
+			// Pending patches are applied after the snapshot, so they must not
+			//   override its newer values
+			if (patch != null) patch.getValues().valueMap().keySet().removeAll(update.valueMap().keySet());
+		}
+		
+		private void mergePatch(@Nullable CommentedConfig update) {
+			if (update == null) return;
+			// Patches only contain the changed entries, so they're merged entry by entry
+			if (snapshot != null) {
+				final CommentedConfig covered = update.createSubConfig();
+				update.valueMap().keySet().removeIf(k -> {
+					if (!snapshot.valueMap().containsKey(k)) return false;
+					covered.valueMap().put(k, update.valueMap().get(k));
+					return true;
+				});
+				if (!covered.isEmpty()) config.mergeSnapshot(snapshot, covered);
+			}
+			if (patch == null) {
+				patch = SnapshotDelta.of(config, update);
+			} else patch.merge(SnapshotDelta.of(config, update));
+		}
+	}
+	
+	/**
+	 * Token bucket limiting the updates accepted from a player.<br>
+	 * Used from the network threads, before decoding updates.
+	 */
+	private static class UpdateRateLimiter {
+		private double tokens;
+		private long lastRefill = System.currentTimeMillis();
+		
+		private UpdateRateLimiter(int burst) {
+			tokens = burst;
+		}
+		
+		private synchronized boolean tryAcquire(double rate, int burst) {
+			long now = System.currentTimeMillis();
+			tokens = Math.min(burst, tokens + (now - lastRefill) * rate / 1000D);
+			lastRefill = now;
+			if (tokens < 1D) return false;
+			tokens--;
+			return true;
+		}
+	}
+	
+	private static final Map<SimpleConfigImpl, PendingUpdate> PENDING_UPDATES = new LinkedHashMap<>();
+	private static final Map<UUID, UpdateRateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+	private static final Map<UUID, UpdateRateLimiter> RESYNC_RATE_LIMITERS = new ConcurrentHashMap<>();
+	private static final Map<UUID, Set<SimpleConfigImpl>> PENDING_RESYNCS = new HashMap<>();
+	
+	/**
+	 * Check the {@link ServerConfig.network#player_update_rate update rate limit}
+	 * of a player, notifying them if exceeded.<br>
+	 * May be called from any thread.
+	 */
+	private static boolean checkRateLimit(ServerPlayer player, SimpleConfigImpl config) {
+		final double rate = ServerConfig.network.player_update_rate;
+		if (rate <= 0D) return true;
+		final int burst = ServerConfig.network.player_update_burst;
+		if (tryAcquire(RATE_LIMITERS, player, rate, burst)) return true;
+		final String modName = SimpleConfigImpl.getModNameOrId(config.getModId());
+		LOGGER.warn(
+		  "Player \"" + player.getScoreboardName() + "\" exceeded the update rate limit " +
+		  "for the config of mod \"" + modName + "\"");
+		player.server.execute(() -> player.sendSystemMessage(Component.translatable(
+		  "simpleconfig.config.msg.update_rate_limited", modName
+		).withStyle(DENIED_UPDATE_STYLE)));
+		return false;
+	}
+	
+	/**
+	 * Check the rate limit of the full resyncs requested by a player, which
+	 * shares the {@link ServerConfig.network#player_update_rate update rate limit},
+	 * but not its budget.
+	 */
+	private static boolean checkResyncRateLimit(ServerPlayer player, SimpleConfigImpl config) {
+		if (tryAcquireResync(player)) return true;
+		LOGGER.warn(
+		  "Player \"" + player.getScoreboardName() + "\" exceeded the resync rate limit " +
+		  "for the config of mod \"" + SimpleConfigImpl.getModNameOrId(config.getModId()) + "\"");
+		return false;
+	}
+	
+	private static boolean tryAcquireResync(ServerPlayer player) {
+		final double rate = ServerConfig.network.player_update_rate;
+		if (rate <= 0D) return true;
+		return tryAcquire(
+		  RESYNC_RATE_LIMITERS, player, rate, ServerConfig.network.player_update_burst);
+	}
+	
+	/**
+	 * Send a full resync of a config to a player, or defer it until their
+	 * {@link #checkResyncRateLimit resync rate limit} allows it.<br>
+	 * Must be called from the server thread.
+	 */
+	private static void requestResync(ServerPlayer player, SimpleConfigImpl config) {
+		Set<SimpleConfigImpl> pending = PENDING_RESYNCS.get(player.getUUID());
+		if (pending != null && pending.contains(config)) return;
+		if (pending == null && checkResyncRateLimit(player, config)) {
+			sendResync(player, config);
+		} else PENDING_RESYNCS.computeIfAbsent(
+		  player.getUUID(), u -> new LinkedHashSet<>()
+		).add(config);
+	}
+	
+	private static void sendResync(ServerPlayer player, SimpleConfigImpl config) {
+		new SSimpleConfigSyncPacket(
+		  config, config.takeSyncSnapshot(config.isRemoteListener(player))
+		).sendTo(player);
+	}
+	
+	/**
+	 * Send the deferred resyncs that the rate limit of each player allows.<br>
+	 * The snapshots are taken when sent, so they're up-to-date.
+	 */
+	private static void flushResyncs() {
+		if (PENDING_RESYNCS.isEmpty()) return;
+		final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+		PENDING_RESYNCS.entrySet().removeIf(e -> {
+			final ServerPlayer player = server != null
+			  ? server.getPlayerList().getPlayer(e.getKey()) : null;
+			if (player == null) return true;
+			final Iterator<SimpleConfigImpl> configs = e.getValue().iterator();
+			while (configs.hasNext() && tryAcquireResync(player)) {
+				sendResync(player, configs.next());
+				configs.remove();
+			}
+			return e.getValue().isEmpty();
+		});
+	}
+	
+	private static boolean tryAcquire(
+	  Map<UUID, UpdateRateLimiter> limiters, ServerPlayer player, double rate, int burst
+	) {
+		return limiters.computeIfAbsent(player.getUUID(), u -> new UpdateRateLimiter(burst))
+		  .tryAcquire(rate, burst);
+	}
+	
+	/**
+	 * Get the pending update for a config, starting a new batching window if needed
+	 */
+	private static PendingUpdate getPendingUpdate(SimpleConfigImpl config) {
+		return PENDING_UPDATES.computeIfAbsent(config, c -> new PendingUpdate(
+		  c, System.currentTimeMillis() + ServerConfig.network.update_batch_ms));
+	}
+	
+	/**
+	 * Apply the pending updates whose batching window has ended
+	 * @param force Apply all pending updates
+	 */
+	private static void flushUpdates(boolean force) {
+		if (PENDING_UPDATES.isEmpty()) return;
+		final long now = System.currentTimeMillis();
+		final List<PendingUpdate> ready = new ArrayList<>();
+		PENDING_UPDATES.values().removeIf(u -> {
+			if (!force && u.deadline > now) return false;
+			ready.add(u);
+			return true;
+		});
+		ready.forEach(SimpleConfigNetworkHandler::applyUpdate);
+	}
+	
+	/**
+	 * Apply the merged updates of a batching window, broadcasting them once
+	 * to operators and syncing them once to clients.
+	 */
+	private static void applyUpdate(PendingUpdate update) {
+		final SimpleConfigImpl config = update.config;
+		final String modName = SimpleConfigImpl.getModNameOrId(config.getModId());
+		final Set<String> senders = new LinkedHashSet<>(update.updatedBy);
+		senders.addAll(update.patchedBy);
+		update.reports.keySet().forEach(p -> senders.add(p.getScoreboardName()));
+		final String senderNames = String.join(", ", senders);
 		try {
-			if (snapshot == null) snapshot = config.takeSnapshot(false, false);
-			if (snapshot instanceof CommentedFileConfig) {
-				return Files.readAllBytes(((CommentedFileConfig) snapshot).getNioPath());
-			} else {
-				ByteArrayOutputStream arrayWriter = new ByteArrayOutputStream();
-				SimpleConfigCommentedYamlFormat format = config.getConfigFormat();
-				format.createWriter(false).write(snapshot, arrayWriter);
-				return arrayWriter.toByteArray();
+			// Applied together, so the config is only reloaded once
+			final SnapshotDelta patch = update.patch;
+			tryUpdateConfig(
+			  config, update.snapshot, patch != null && !patch.isEmpty()? patch.getValues() : null);
+			// config.bake(); // This should happen as a consequence of the reloading event
+		} catch (ConfigUpdateReflectionError e) {
+			e.printStackTrace();
+			LOGGER.error("Error updating server config for mod \"" + modName + "\"");
+			broadcastToOperators(Component.translatable(
+			  "simpleconfig.config.msg.error_updating_by", modName, senderNames, e.getMessage()
+			).withStyle(ERROR_UPDATE_STYLE));
+			if (update.resync) config.syncToClients();
+			return;
+		}
+		if (!update.updatedBy.isEmpty()) {
+			final String names = String.join(", ", update.updatedBy);
+			LOGGER.info(
+			  "Server config for mod \"" + modName + "\" " +
+			  "has been updated by authorized players: " + names);
+			MutableComponent msg = Component.translatable(
+			  "simpleconfig.config.msg.updated_by", modName, names
+			).withStyle(ALLOWED_UPDATE_STYLE);
+			if (update.requireRestart)
+				msg = msg.append("\n").append(
+				  Component.translatable("simpleconfig.config.msg.server_changes_require_restart")
+					 .withStyle(REQUIRES_RESTART_STYLE));
+			broadcastToOperators(msg);
+		}
+		if (!update.patchedBy.isEmpty()) {
+			final String names = String.join(", ", update.patchedBy);
+			LOGGER.info("Snapshot applied to config for mod \"" + modName + "\" by players: " + names);
+			broadcastToOperators(Component.translatable(
+			  "simpleconfig.config.msg.patched_by", modName, names
+			).withStyle(ALLOWED_UPDATE_STYLE));
+		}
+		update.reports.forEach((sender, report) -> new SSimpleConfigPatchReportPacket(
+		  Component.translatable("simpleconfig.hotkey.remote", sender.getName()), report
+		).sendToOpsExcept(sender));
+		// The received snapshots can't be forwarded as is, since they may contain
+		//   entries not synced to every player
+		if (update.resync) config.syncToClients();
+	}
+	
+	@EventBusSubscriber(modid = SimpleConfigMod.MOD_ID)
+	@Internal public static class UpdateBatchSubscriber {
+		@SubscribeEvent public static void onServerTick(ServerTickEvent event) {
+			if (event.phase == Phase.END) {
+				flushUpdates(false);
+				flushResyncs();
 			}
-		} catch (IOException error) {
-			throw new RuntimeException("IO error reading config file", error);
+		}
+		
+		@SubscribeEvent public static void onServerStopping(ServerStoppingEvent event) {
+			flushUpdates(true);
+			RATE_LIMITERS.clear();
+			RESYNC_RATE_LIMITERS.clear();
+			PENDING_RESYNCS.clear();
 		}
 	}
 	
 	// Network channel ------------------------------------------------
 	
-	private static final String CHANNEL_PROTOCOL_VERSION = "1";
+	private static final String CHANNEL_PROTOCOL_VERSION = "5";
 	private static final ResourceLocation CHANNEL_NAME = new ResourceLocation(
 	  SimpleConfigMod.MOD_ID, "config");
 	private static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
@@ -252,6 +579,27 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 	  CHANNEL_PROTOCOL_VERSION::equals,
 	  CHANNEL_PROTOCOL_VERSION::equals);
 	private static int ID_COUNT = 0;
+	
+	private static final int PACKET_WORKER_THREADS = 2;
+	private static final int PACKET_WORKER_QUEUE_CAPACITY = 256;
+	private static final AtomicInteger PACKET_WORKER_ID = new AtomicInteger();
+	/**
+	 * Bounded pool in which packets doing blocking work (file I/O, snapshot decoding)
+	 * are handled, so it doesn't stall the network or server threads.<br>
+	 * When its queue is full, packets are dropped, and their senders notified,
+	 * rather than handled in the network thread.
+	 */
+	private static final ThreadPoolExecutor PACKET_WORKERS = new ThreadPoolExecutor(
+	  PACKET_WORKER_THREADS, PACKET_WORKER_THREADS, 30L, TimeUnit.SECONDS,
+	  new ArrayBlockingQueue<>(PACKET_WORKER_QUEUE_CAPACITY), r -> {
+		  Thread thread = new Thread(
+			 r, "SimpleConfig Packet Worker #" + PACKET_WORKER_ID.incrementAndGet());
+		  thread.setDaemon(true);
+		  return thread;
+	  }, new ThreadPoolExecutor.AbortPolicy());
+	static {
+		PACKET_WORKERS.allowCoreThreadTimeOut(true);
+	}
 	private static int loginID = 0;
 	private static int dedicatedServerLoginID = -1;
 	private static boolean isConnectedToDedicatedServer = false;
@@ -260,6 +608,13 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		return CHANNEL;
 	}
 	
+	/**
+	 * Number of packets waiting to be handled by the packet worker pool
+	 */
+	public static int getPacketQueueDepth() {
+		return PACKET_WORKERS.getQueue().size();
+	}
+	
 	public static boolean isServerReady() {
 		if (FMLEnvironment.dist != Dist.DEDICATED_SERVER) return false;
 		return ServerLifecycleHooks.getCurrentServer() != null;
@@ -298,7 +653,8 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		registerServer(SSimpleConfigServerCommonConfigPacket::new);
 		registerServer(SSimpleConfigPatchReportPacket::new);
 		registerServer(SSimpleConfigServerPropertiesPacket::new);
-
+		registerServer(SSimpleConfigDeltaSyncPacket::new);
+		
 		registerClient(CSimpleConfigSyncPacket::new);
 		registerClient(CSimpleConfigSavePresetPacket::new);
 		registerClient(CSimpleConfigRequestPresetListPacket::new);
@@ -311,6 +667,8 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		registerClient(CSimpleConfigReleaseServerCommonConfigPacket::new);
 		registerClient(CSimpleConfigApplyPatchPacket::new);
 		registerClient(CSimpleConfigServerPropertiesRequestPacket::new);
+		registerClient(CSimpleConfigRequestSyncPacket::new);
+		registerClient(CSimpleConfigSubscribePacket::new);
 		
 		registerLogin(CAcknowledgePacket::new);
 		registerLogin(SLoginConfigDataPacket::new, SimpleConfigNetworkHandler::getLoginConfigDataPackets);
@@ -332,11 +690,14 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		final Packet msg = factory.get();
 		//noinspection unchecked
 		Class<Packet> msgClass = (Class<Packet>) msg.getClass();
-		CHANNEL.messageBuilder(msgClass, ID_COUNT++, direction)
+		MessageBuilder<Packet> builder = CHANNEL.messageBuilder(msgClass, ID_COUNT++, direction)
 		  .encoder(AbstractPacket::write)
-		  .decoder(AbstractPacket.decoder(factory))
-		  .consumerMainThread(AbstractPacket::handle)
-		  .add();
+		  .decoder(AbstractPacket.decoder(factory));
+		// Client packets are dispatched from the network thread, see CAbstractPacket#dispatch
+		if (msg instanceof CAbstractPacket) {
+			builder.consumerNetworkThread((p, ctx) -> ((CAbstractPacket) p).dispatch(ctx));
+		} else builder.consumerMainThread(AbstractPacket::handle);
+		builder.add();
 	}
 	
 	private static <Packet extends SAbstractLoginPacket> void registerLogin(
@@ -399,6 +760,68 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			onServer(ctx);
 		}
 		
+		/**
+		 * Called from the network thread.<br>
+		 * {@link #isAsync() Async} packets are handled in the packet worker pool,
+		 * and the rest in the server thread.
+		 */
+		protected final void dispatch(Supplier<Context> ctxSupplier) {
+			Context ctx = ctxSupplier.get();
+			ctx.setPacketHandled(true);
+			if (!accept(ctx)) return;
+			if (isAsync()) {
+				try {
+					PACKET_WORKERS.execute(() -> {
+						try {
+							onServer(ctx);
+						} catch (RuntimeException e) {
+							LOGGER.error("Error handling packet " + getClass().getSimpleName(), e);
+						}
+					});
+				} catch (RejectedExecutionException e) {
+					final ServerPlayer sender = ctx.getSender();
+					LOGGER.warn(
+					  "Dropped packet " + getClass().getSimpleName() + " from player \"" +
+					  (sender != null? sender.getScoreboardName() : "?") + "\", " +
+					  "the packet worker queue is full");
+					ctx.enqueueWork(() -> onDropped(ctx));
+				}
+			} else ctx.enqueueWork(() -> onServer(ctx));
+		}
+		
+		/**
+		 * Called from the network thread before the packet is dispatched.<br>
+		 * Packets carrying snapshots check the permissions and rate limit of
+		 * their sender here, so unauthorized packets are dropped before being
+		 * decoded.<br>
+		 * Rejections must be reported with {@link Context#enqueueWork}.
+		 * @return Whether the packet should be handled
+		 */
+		protected boolean accept(Context ctx) {
+			return true;
+		}
+		
+		/**
+		 * Called in the server thread when an {@link #isAsync() async} packet is dropped
+		 * because the packet worker pool is saturated.
+		 */
+		protected void onDropped(Context ctx) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender != null) sender.sendSystemMessage(Component.translatable(
+			  "simpleconfig.config.msg.server_busy"
+			).withStyle(ERROR_UPDATE_STYLE));
+		}
+		
+		/**
+		 * Whether this packet should be handled in the packet worker pool, rather than
+		 * in the server thread.<br>
+		 * Async packets must use {@link Context#enqueueWork} for anything
+		 * that modifies the server state.
+		 */
+		protected boolean isAsync() {
+			return false;
+		}
+		
 		public void onServer(Context ctx) {}
 		
 		public void send() {
@@ -548,36 +971,52 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		  .map(id -> SimpleConfigImpl.hasConfig(id, SimpleConfig.Type.SERVER)
 		             ? SimpleConfigImpl.getConfig(id, SimpleConfig.Type.SERVER) : null
 		  ).filter(c -> c != null && !c.isWrapper())
-		  .map(c -> Pair.of(
-			 c.getModId(), new SLoginConfigDataPacket(c.getModId(), serializeSnapshot(c, null)))
-		  ).collect(Collectors.toList());
+		  .map(c -> {
+			  c.initSyncBaseline();
+			  return Pair.of(c.getModId(), new SLoginConfigDataPacket(
+				 c.getModId(), c.getSyncVersion(), c.getLoginPayload()));
+		  }).collect(Collectors.toList());
 	}
 	
+	/**
+	 * Sends the current state of a server config to a player logging in.<br>
+	 * The data is compressed, and shared between all players, see
+	 * {@link SimpleConfigImpl#getLoginPayload()}
+	 */
 	public static class SLoginConfigDataPacket extends SAbstractLoginPacket {
 		private String modId;
+		private int version;
 		private byte[] fileData;
 		
 		public SLoginConfigDataPacket() {}
 		
-		public SLoginConfigDataPacket(String modId, byte[] fileData) {
+		public SLoginConfigDataPacket(String modId, int version, byte[] fileData) {
 			this.modId = modId;
+			this.version = version;
 			this.fileData = fileData;
 		}
 		
 		@Override public void onClient(Context ctx) {
 			if (!Minecraft.getInstance().isLocalServer()) {
 				SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.SERVER);
-				tryUpdateConfig(config, fileData, true);
+				try {
+					tryUpdateConfig(config, SimpleConfigSnapshotCodec.inflate(fileData), true);
+					config.setSyncVersion(version);
+				} catch (IllegalStateException e) {
+					LOGGER.error("Failed to decompress synced server config for mod " + modId, e);
+				}
 			}
 		}
 		
 		@Override public void write(FriendlyByteBuf buf) {
 			buf.writeUtf(modId);
+			buf.writeVarInt(version);
 			buf.writeByteArray(fileData);
 		}
 		
 		@Override public void read(FriendlyByteBuf buf) {
 			modId = buf.readUtf(32767);
+			version = buf.readVarInt();
 			fileData = buf.readByteArray();
 		}
 	}
@@ -615,47 +1054,67 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			requireRestart = config.anyDirtyRequiresRestart();
 		}
 		
-		@Override public void onServer(Context ctx) {
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
+		@Override protected boolean accept(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
-			SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.SERVER);
 			final String modName = SimpleConfigImpl.getModNameOrId(modId);
-			if (sender == null)
-				throw new IllegalStateException(
-				  "Received server config update from non-player source for mod \"" + modName + "\"");
+			if (sender == null) {
+				LOGGER.error("Received server config update from non-player source for mod \"" + modName + "\"");
+				return false;
+			}
+			SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, SimpleConfig.Type.SERVER);
+			if (config == null) return false;
 			final String senderName = sender.getScoreboardName();
 			if (!permissions.permissionFor(sender, modId).getLeft().canEdit()) {
-				LOGGER.warn("Player \"" + senderName + "\" tried to modify " +
-				            "the server config for mod \"" + modName + "\" without privileges");
-				broadcastToOperators(Component.translatable(
-				  "simpleconfig.config.msg.tried_to_update_by", senderName, modName
-				).withStyle(DENIED_UPDATE_STYLE));
-				// Send back a re-sync packet
-				new SSimpleConfigSyncPacket(modId, snapshot).sendTo(sender);
-				return;
+				ctx.enqueueWork(() -> {
+					LOGGER.warn("Player \"" + senderName + "\" tried to modify " +
+					            "the server config for mod \"" + modName + "\" without privileges");
+					broadcastToOperators(Component.translatable(
+					  "simpleconfig.config.msg.tried_to_update_by", senderName, modName
+					).withStyle(DENIED_UPDATE_STYLE));
+					// Send back a re-sync packet, since the sender's values weren't accepted
+					sendResync(sender, config);
+				});
+				return false;
 			}
-			
-			try {
-				tryUpdateConfig(config, snapshot, false);
-				// config.bake(); // This should happen as a consequence of the reloading event
-			} catch (ConfigUpdateReflectionError e) {
-				e.printStackTrace();
-				LOGGER.error("Error updating server config for mod \"" + modName + "\"");
-				broadcastToOperators(Component.translatable("simpleconfig.config.msg.error_updating_by",
-				                                            modName, senderName, e.getMessage())
-				                       .withStyle(ERROR_UPDATE_STYLE));
+			if (!checkRateLimit(sender, config)) {
+				ctx.enqueueWork(() -> sendResync(sender, config));
+				return false;
 			}
-			
-			LOGGER.info(
-			  "Server config for mod \"" + modName + "\" " +
-			  "has been updated by authorized player \"" + senderName + "\"");
-			MutableComponent msg = Component.translatable("simpleconfig.config.msg.updated_by",
-			  modName, senderName).withStyle(ALLOWED_UPDATE_STYLE);
-			if (requireRestart)
-				msg = msg.append("\n").append(
-				  Component.translatable("simpleconfig.config.msg.server_changes_require_restart")
-					 .withStyle(REQUIRES_RESTART_STYLE));
-			broadcastToOperators(msg);
-			new SSimpleConfigSyncPacket(modId, snapshot).sendExcept(sender);
+			return true;
+		}
+		
+		@Override public void onServer(Context ctx) {
+			// Decode the snapshot in the worker thread, and only apply it in the server thread
+			SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.SERVER);
+			CommentedConfig sentConfig = deserializeSnapshot(config, snapshot);
+			ctx.enqueueWork(() -> apply(ctx, config, sentConfig));
+		}
+		
+		/**
+		 * Permissions and rate limit are checked in {@link #accept}
+		 */
+		private void apply(Context ctx, SimpleConfigImpl config, @Nullable CommentedConfig sentConfig) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender == null) return;
+			if (sentConfig == null) {
+				// Nothing was applied, so the sender only needs the server values back
+				sendResync(sender, config);
+				return;
+			}
+			final String senderName = sender.getScoreboardName();
+			// Entries not synced to the sender can't be modified by them either
+			config.filterSyncSnapshot(sentConfig, config.isRemoteListener(sender));
+			// Updates are merged and applied once per batching window
+			PendingUpdate update = getPendingUpdate(config);
+			update.merge(sentConfig);
+			update.updatedBy.add(senderName);
+			update.requireRestart |= requireRestart;
+			update.resync = true;
+			if (ServerConfig.network.update_batch_ms <= 0) flushUpdates(true);
 		}
 		
 		@Override public void write(FriendlyByteBuf buf) {
@@ -673,25 +1132,32 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 	
 	protected static class SSimpleConfigSyncPacket extends SAbstractPacket {
 		protected String modId;
+		protected int version;
 		protected byte[] snapshot;
 		
 		public SSimpleConfigSyncPacket() {}
 		public SSimpleConfigSyncPacket(SimpleConfigImpl config) {
-			modId = config.getModId();
-			snapshot = serializeSnapshot(config, null);
+			this(config, config.takeSyncSnapshot(false));
+		}
+		
+		public SSimpleConfigSyncPacket(SimpleConfigImpl config, @Nullable CommentedConfig snapshot) {
+			this(config.getModId(), config.getSyncVersion(), serializeSnapshot(config, snapshot));
 		}
 		
 		public SSimpleConfigSyncPacket(
-		  String modId, byte[] snapshot
+		  String modId, int version, byte[] snapshot
 		) {
 			this.modId = modId;
+			this.version = version;
 			this.snapshot = snapshot;
 		}
 		
 		@Override public void onClient(Context ctx) {
 			if (!Minecraft.getInstance().isLocalServer()) {
 				try {
-					tryUpdateConfig(SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.SERVER), snapshot, false);
+					SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.SERVER);
+					tryUpdateConfig(config, snapshot, false);
+					config.setSyncVersion(version);
 					LOGGER.debug("Updated server config for mod \"" + modId + "\"");
 				} catch (ConfigUpdateReflectionError e) {
 					LOGGER.error("Error updating client config for mod \"" + modId + "\"", e);
@@ -704,15 +1170,163 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		
 		@Override public void write(FriendlyByteBuf buf) {
 			buf.writeUtf(modId);
+			buf.writeVarInt(version);
 			buf.writeByteArray(snapshot);
 		}
 		
 		@Override public void read(FriendlyByteBuf buf) {
 			modId = buf.readUtf(32767);
+			version = buf.readVarInt();
 			snapshot = buf.readByteArray();
 		}
 	}
 	
+	/**
+	 * Contains only the entries changed since the previous sync.<br>
+	 * Clients whose last received version doesn't match {@link #baseVersion}
+	 * missed some update, and request a full resync instead of applying it.
+	 */
+	protected static class SSimpleConfigDeltaSyncPacket extends SAbstractPacket {
+		protected String modId;
+		protected int baseVersion;
+		protected int version;
+		protected byte[] delta;
+		
+		public SSimpleConfigDeltaSyncPacket() {}
+		public SSimpleConfigDeltaSyncPacket(
+		  SimpleConfigImpl config, int baseVersion, CommentedConfig delta
+		) {
+			modId = config.getModId();
+			this.baseVersion = baseVersion;
+			version = config.getSyncVersion();
+			this.delta = serializeSnapshot(config, delta);
+		}
+		
+		@Override public void onClient(Context ctx) {
+			if (!Minecraft.getInstance().isLocalServer()) {
+				SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, SimpleConfig.Type.SERVER);
+				if (config == null) return;
+				if (config.getSyncVersion() != baseVersion) {
+					LOGGER.debug(
+					  "Missed server config update for mod \"" + modId + "\" (expected version " +
+					  baseVersion + ", found " + config.getSyncVersion() + "), requesting resync");
+					new CSimpleConfigRequestSyncPacket(modId).send();
+					return;
+				}
+				try {
+					tryApplyDelta(config, delta);
+					config.setSyncVersion(version);
+					LOGGER.debug("Updated server config for mod \"" + modId + "\"");
+				} catch (ConfigUpdateReflectionError e) {
+					LOGGER.error("Error updating client config for mod \"" + modId + "\"", e);
+					sendMessage(
+					  Component.translatable("simpleconfig.config.msg.error_updating_from_server",
+					                         SimpleConfigImpl.getModNameOrId(modId), e.getMessage()));
+				}
+			}
+		}
+		
+		@Override public void write(FriendlyByteBuf buf) {
+			buf.writeUtf(modId);
+			buf.writeVarInt(baseVersion);
+			buf.writeVarInt(version);
+			buf.writeByteArray(delta);
+		}
+		
+		@Override public void read(FriendlyByteBuf buf) {
+			modId = buf.readUtf(32767);
+			baseVersion = buf.readVarInt();
+			version = buf.readVarInt();
+			delta = buf.readByteArray();
+		}
+	}
+	
+	protected static class CSimpleConfigRequestSyncPacket extends CAbstractPacket {
+		protected String modId;
+		
+		public CSimpleConfigRequestSyncPacket() {}
+		public CSimpleConfigRequestSyncPacket(String modId) {
+			this.modId = modId;
+		}
+		
+		@Override public void onServer(Context ctx) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender == null) return;
+			SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, SimpleConfig.Type.SERVER);
+			if (config == null) {
+				LOGGER.warn(
+				  "Player \"" + sender.getScoreboardName() + "\" requested a resync " +
+				  "for unknown server config for mod \"" + modId + "\"");
+				return;
+			}
+			// Each resync encodes the whole config, so they can't be requested at will
+			requestResync(sender, config);
+		}
+		
+		@Override public void write(FriendlyByteBuf buf) {
+			buf.writeUtf(modId);
+		}
+		
+		@Override public void read(FriendlyByteBuf buf) {
+			modId = buf.readUtf(32767);
+		}
+	}
+	
+	/**
+	 * Sent when a player opens or closes the config GUI for a server config,
+	 * to receive the entries synced only to {@link SimpleConfig.SyncScope#EDITORS}.
+	 */
+	protected static class CSimpleConfigSubscribePacket extends CAbstractPacket {
+		protected String modId;
+		protected boolean subscribe;
+		
+		public CSimpleConfigSubscribePacket() {}
+		public CSimpleConfigSubscribePacket(String modId, boolean subscribe) {
+			this.modId = modId;
+			this.subscribe = subscribe;
+		}
+		
+		@Override public void onServer(Context ctx) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender == null) return;
+			SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, SimpleConfig.Type.SERVER);
+			if (config == null) return;
+			if (!subscribe) {
+				config.removeRemoteListener(sender);
+				return;
+			}
+			if (!permissions.permissionFor(sender, modId).getLeft().canView()) {
+				LOGGER.warn(
+				  "Player \"" + sender.getScoreboardName() + "\" tried to subscribe to " +
+				  "the server config for mod \"" + modId + "\" without privileges");
+				return;
+			}
+			config.addRemoteListener(sender);
+			final CommentedConfig snapshot = config.takeEditorSnapshot();
+			if (!snapshot.isEmpty()) new SSimpleConfigSyncPacket(config, snapshot).sendTo(sender);
+		}
+		
+		@Override public void write(FriendlyByteBuf buf) {
+			buf.writeUtf(modId);
+			buf.writeBoolean(subscribe);
+		}
+		
+		@Override public void read(FriendlyByteBuf buf) {
+			modId = buf.readUtf(32767);
+			subscribe = buf.readBoolean();
+		}
+	}
+	
+	@EventBusSubscriber(modid = SimpleConfigMod.MOD_ID)
+	@Internal public static class LogoutEventSubscriber {
+		@SubscribeEvent public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+			SimpleConfigImpl.removeRemoteListenerFromAll(event.getEntity());
+			RATE_LIMITERS.remove(event.getEntity().getUUID());
+			RESYNC_RATE_LIMITERS.remove(event.getEntity().getUUID());
+			PENDING_RESYNCS.remove(event.getEntity().getUUID());
+		}
+	}
+	
 	protected static class CSimpleConfigRequestServerCommonConfigPacket extends CAbstractPacket {
 		public static Map<String, CompletableFuture<CommentedConfig>> FUTURES = new HashMap<>();
 		private String modId;
@@ -842,24 +1456,50 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			this.snapshot = snapshot;
 		}
 		
-		@Override public void onServer(Context ctx) {
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
+		@Override protected boolean accept(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
 			final String modName = SimpleConfigImpl.getModNameOrId(modId);
-			if (sender == null) throw new IllegalStateException(
-			  "Received server config update from non-player source for mod \"" + modName + "\"");
+			if (sender == null) {
+				LOGGER.error("Received server config update from non-player source for mod \"" + modName + "\"");
+				return false;
+			}
+			SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, SimpleConfig.Type.COMMON);
+			if (config == null) return false;
 			final String senderName = sender.getScoreboardName();
-			if (!SimpleConfigImpl.hasConfig(modId, SimpleConfig.Type.COMMON)) return;
 			if (!permissions.permissionFor(sender, modId).getLeft().canEdit()) {
-				LOGGER.warn("Player \"" + senderName + "\" attempted to save server common config " +
-				            "for mod \"" + modName + "\"");
-				broadcastToOperators(
-				  Component.translatable("simpleconfig.config.msg.tried_to_update_by", senderName, modName)
-					 .withStyle(DENIED_UPDATE_STYLE));
-				return;
+				ctx.enqueueWork(() -> {
+					LOGGER.warn("Player \"" + senderName + "\" attempted to save server common config " +
+					            "for mod \"" + modName + "\"");
+					broadcastToOperators(
+					  Component.translatable("simpleconfig.config.msg.tried_to_update_by", senderName, modName)
+						 .withStyle(DENIED_UPDATE_STYLE));
+				});
+				return false;
 			}
+			return checkRateLimit(sender, config);
+		}
+		
+		@Override public void onServer(Context ctx) {
+			// Decode the snapshot in the worker thread, and only apply it in the server thread
+			SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.COMMON);
+			CommentedConfig sentConfig = snapshot != null? deserializeSnapshot(config, snapshot) : null;
+			ctx.enqueueWork(() -> apply(ctx, config, sentConfig));
+		}
+		
+		/**
+		 * Permissions and rate limit are checked in {@link #accept}
+		 */
+		private void apply(Context ctx, SimpleConfigImpl config, @Nullable CommentedConfig sentConfig) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender == null) return;
+			final String modName = SimpleConfigImpl.getModNameOrId(modId);
+			final String senderName = sender.getScoreboardName();
 			try {
-				SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.COMMON);
-				tryUpdateConfig(config, snapshot, false);
+				tryUpdateConfig(config, sentConfig, false);
 			} catch (ConfigUpdateReflectionError e) {
 				e.printStackTrace();
 				LOGGER.error("Error updating server config for mod \"" + modName + "\"");
@@ -944,40 +1584,49 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			this.report = report;
 		}
 		
-		@Override public void onServer(Context ctx) {
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
+		@Override protected boolean accept(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
 			final String modName = SimpleConfigImpl.getModNameOrId(modId);
-			if (sender == null) throw new IllegalStateException(
-			  "Received server config update from non-player source for mod \"" + modName + "\"");
-			final String senderName = sender.getScoreboardName();
-			if (!SimpleConfigImpl.hasConfig(modId, type)) return;
+			if (sender == null) {
+				LOGGER.error("Received server config update from non-player source for mod \"" + modName + "\"");
+				return false;
+			}
+			SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, type);
+			if (config == null) return false;
 			if (!permissions.permissionFor(sender, modId).getLeft().canEdit()) {
 				LOGGER.warn(
-				  "Player \"" + senderName + "\" attempted to apply patch to config " +
+				  "Player \"" + sender.getScoreboardName() + "\" attempted to apply patch to config " +
 				  "for mod \"" + modName + "\"");
-				return;
-			}
-			try {
-				SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, type);
-				tryUpdateConfig(config, snapshot, false);
-			} catch (ConfigUpdateReflectionError e) {
-				e.printStackTrace();
-				LOGGER.error("Error applying snapshot to config for mod \"" + modName + "\"");
-				broadcastToOperators(Component.translatable("simpleconfig.config.msg.error_updating_by",
-				                                            modName, senderName, e.getMessage())
-				                       .withStyle(ERROR_UPDATE_STYLE));
-				return;
+				return false;
 			}
-			LOGGER.info("Snapshot applied to config for mod \"" + modName + "\" by player " + sender);
+			return checkRateLimit(sender, config);
+		}
+		
+		@Override public void onServer(Context ctx) {
+			// Decode the snapshot in the worker thread, and only apply it in the server thread
+			SimpleConfigImpl config = SimpleConfigImpl.getConfig(modId, type);
+			CommentedConfig sentConfig = snapshot != null? deserializeSnapshot(config, snapshot) : null;
+			ctx.enqueueWork(() -> apply(ctx, config, sentConfig));
+		}
+		
+		/**
+		 * Permissions and rate limit are checked in {@link #accept}
+		 */
+		private void apply(Context ctx, SimpleConfigImpl config, @Nullable CommentedConfig sentConfig) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender == null) return;
+			final String senderName = sender.getScoreboardName();
+			// Patches are merged and applied once per batching window
+			PendingUpdate update = getPendingUpdate(config);
+			update.mergePatch(sentConfig);
 			if (report.isEmpty()) {
-				broadcastToOperators(Component.translatable(
-				  "simpleconfig.config.msg.patched_by", modName, senderName
-				).withStyle(ALLOWED_UPDATE_STYLE));
-			} else {
-				new SSimpleConfigPatchReportPacket(
-				  Component.translatable("simpleconfig.hotkey.remote", sender.getName()), report
-				).sendToOpsExcept(sender);
-			}
+				update.patchedBy.add(senderName);
+			} else update.reports.computeIfAbsent(sender, p -> new ArrayList<>()).addAll(report);
+			if (ServerConfig.network.update_batch_ms <= 0) flushUpdates(true);
 		}
 		
 		@Override public void write(FriendlyByteBuf buf) {
@@ -1037,6 +1686,9 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 		    || !config.getType().isRemote()
 		    || !permissions.permissionFor(config.getModId()).getLeft().canEdit()
 		) return false;
+		// The patch isn't minimized against the synced copy of the server config,
+		//   since it lacks the entries not synced to this client, and may miss
+		//   updates still pending in the server batching window
 		new CSimpleConfigApplyPatchPacket(config, snapshot, report).send();
 		return true;
 	}
@@ -1068,6 +1720,27 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			} else fileData = null;
 		}
 		
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
+		@Override protected boolean accept(Context ctx) {
+			// Presets are written to disk, so they share the update rate limit
+			final ServerPlayer sender = ctx.getSender();
+			if (sender == null) return true;
+			SimpleConfigImpl config = SimpleConfigImpl.getConfigOrNull(modId, SimpleConfig.Type.SERVER);
+			if (config == null || checkRateLimit(sender, config)) return true;
+			ctx.enqueueWork(() -> new SSimpleConfigSavedPresetPacket(
+			  modId, type, presetName, "Rate limited").sendTo(sender));
+			return false;
+		}
+		
+		@Override protected void onDropped(Context ctx) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender != null) new SSimpleConfigSavedPresetPacket(
+			  modId, type, presetName, "Server busy").sendTo(sender);
+		}
+		
 		@Override public void onServer(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
 			if (sender == null) {
@@ -1076,7 +1749,6 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			}
 			String tt = type.getAlias();
 			String presetName = tt + "-" + this.presetName;
-			String fileName = modId + "-" + presetName + ".yaml";
 			String action = fileData == null? "delete" : "save"; // For messages
 			// Ensure the config has been registered as a SimpleConfig
 			SimpleConfigImpl.getConfig(modId, SimpleConfig.Type.SERVER);
@@ -1086,20 +1758,10 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 				if (!permissions.permissionFor(sender, modId).getRight().canSave())
 					throw new NoPermissionException("No permission for server presets for mod " + modName);
 				
-				final Path dir = SimpleConfigPaths.getRemotePresetsDir();
-				final File dest = dir.resolve(fileName).toFile();
+				final PresetKey key = new PresetKey(modId, type, this.presetName);
 				if (fileData != null) {
-					if (dest.isDirectory())
-						throw new IllegalStateException("File already exists and is a directory");
-					FileUtils.writeByteArrayToFile(dest, fileData);
-				} else {
-					BasicFileAttributes attr = Files.readAttributes(dest.toPath(), BasicFileAttributes.class);
-					if (attr.isDirectory())
-						throw new IllegalStateException("File is a directory");
-					if (!dest.exists() || !attr.isRegularFile())
-						throw new IllegalArgumentException("File does not exist");
-					if (!dest.delete()) throw new IllegalStateException("Unable to delete file");
-				}
+					RemotePresetStore.get().write(key, fileData);
+				} else RemotePresetStore.get().delete(key);
 				
 				broadcastToOperators(Component.translatable(
 				  "simpleconfig.config.msg.snapshot." + tt + "." + action + "d_by",
@@ -1205,21 +1867,16 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			FUTURES.put(modId, future);
 		}
 		
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
 		@Override public void onServer(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
 			if (sender == null) return;
-			final File dir = SimpleConfigPaths.getRemotePresetsDir().toFile();
-			if (!dir.isDirectory()) return;
-			final Pattern pat = Pattern.compile(
-			  "^(?<file>" + Pattern.quote(modId) + "-(?<type>\\w++)-(?<name>.*)\\.yaml)$");
-			final File[] files = dir.listFiles((d, name) -> pat.matcher(name).matches());
-			if (files == null) return;
-			final List<Preset> names = Arrays.stream(files)
-			  .map(f -> {
-				  Matcher m = pat.matcher(f.getName());
-				  if (!m.matches()) return null;
-				  return Preset.remote(m.group("name"), SimpleConfig.Type.fromAlias(m.group("type")));
-			  }).filter(Objects::nonNull).collect(Collectors.toList());
+			final List<Preset> names = RemotePresetStore.get().list(modId).stream()
+			  .map(k -> Preset.remote(k.name(), k.type()))
+			  .collect(Collectors.toList());
 			LOGGER.info("Sending server preset list for mod \"" + modId + "\" to player \"" + sender.getScoreboardName() + "\"");
 			new SSimpleConfigPresetListPacket(modId, names).sendTo(sender);
 		}
@@ -1282,20 +1939,27 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			this.presetName = presetName;
 		}
 		
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
+		@Override protected void onDropped(Context ctx) {
+			final ServerPlayer sender = ctx.getSender();
+			if (sender != null) new SSimpleConfigPresetPacket(
+			  modId, type, presetName, null, "Server busy").sendTo(sender);
+		}
+		
 		@Override public void onServer(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
 			if (sender == null) return;
-			Path dir = SimpleConfigPaths.getRemotePresetsDir();
-			String tt = type.getAlias();
-			String fileName = modId + "-" + tt + "-" + presetName + ".yaml";
-			File file = dir.resolve(fileName).toFile();
-			if (!file.isFile())
+			PresetKey key = new PresetKey(modId, type, presetName);
+			try {
 				new SSimpleConfigPresetPacket(
-				  modId, type, presetName, null, "File does not exist"
+				  modId, type, presetName, RemotePresetStore.get().read(key), null
 				).sendTo(sender);
-			try {
+			} catch (NoSuchFileException e) {
 				new SSimpleConfigPresetPacket(
-				  modId, type, presetName, FileUtils.readFileToByteArray(file), null
+				  modId, type, presetName, null, "File does not exist"
 				).sendTo(sender);
 			} catch (IOException e) {
 				new SSimpleConfigPresetPacket(modId, type, presetName, null, e.getMessage()).sendTo(sender);
@@ -1422,6 +2086,10 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			CSimpleConfigRequestSavedHotKeyGroupsPacket.future = future;
 		}
 		
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
 		@Override public void onServer(Context ctx) {
 			final ServerPlayer sender = ctx.getSender();
 			if (sender == null) return;
@@ -1478,6 +2146,10 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			FUTURES.put(name, future);
 		}
 		
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
 		@Override public void onServer(Context ctx) {
 			ServerPlayer sender = ctx.getSender();
 			if (sender == null) return;
@@ -1556,6 +2228,10 @@ import static endorh.simpleconfig.core.SimpleConfigSnapshotHandler.failedFuture;
 			FUTURES.put(name, future);
 		}
 		
+		@Override protected boolean isAsync() {
+			return true;
+		}
+		
 		@Override public void onServer(Context ctx) {
 			ServerPlayer sender = ctx.getSender();
 			if (sender == null) return;
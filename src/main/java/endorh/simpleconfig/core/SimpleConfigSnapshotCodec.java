@@ -0,0 +1,386 @@
+package endorh.simpleconfig.core;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import com.electronwill.nightconfig.core.Config;
+import com.electronwill.nightconfig.core.ConfigFormat;
+import com.electronwill.nightconfig.core.NullObject;
+import endorh.simpleconfig.yaml.FlowList;
+import endorh.simpleconfig.yaml.NonConfigMap;
+import endorh.simpleconfig.yaml.SimpleConfigCommentedYamlFormat;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.electronwill.nightconfig.core.NullObject.NULL_OBJECT;
+
+/**
+ * Binary encoding of config snapshots, used to send them through the network.<br>
+ * Entries are referenced by their index in the {@link Schema} of the config,
+ * which is derived from the entry tree, so it's the same for both ends as long as
+ * they have the same version of the mod. Values are written with a type tag,
+ * so they're decoded as the same objects that were encoded.<br>
+ * Config files are still written in YAML.
+ */
+@Internal public class SimpleConfigSnapshotCodec {
+	private static final byte FORMAT_VERSION = 1;
+	
+	// Path index reserved for entries not present in the schema
+	private static final int EXPLICIT_PATH = 0;
+	// Maximum nesting of decoded values, since they're decoded recursively
+	static final int MAX_DEPTH = 64;
+	
+	private static final byte NULL = 0;
+	private static final byte FALSE = 1;
+	private static final byte TRUE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INT = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte STRING = 9;
+	private static final byte LIST = 10;
+	private static final byte FLOW_LIST = 11;
+	private static final byte PAIR_LIST = 12;
+	private static final byte SET = 13;
+	private static final byte MAP = 14;
+	private static final byte NON_CONFIG_MAP = 15;
+	private static final byte CONFIG = 16;
+	private static final byte PAIR = 17;
+	private static final byte TRIPLE = 18;
+	private static final byte YAML = 19;
+	
+	public static byte[] encode(SimpleConfigImpl config, CommentedConfig snapshot) {
+		List<Pair<String, Object>> values = new ArrayList<>();
+		collect(config, snapshot, "", values);
+		return encode(config.getSnapshotSchema(), values);
+	}
+	
+	/**
+	 * Encode a list of entry paths and values
+	 */
+	static byte[] encode(Schema schema, List<Pair<String, Object>> values) {
+		FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+		buf.writeByte(FORMAT_VERSION);
+		buf.writeInt(schema.hash);
+		buf.writeVarInt(values.size());
+		for (Pair<String, Object> p : values) {
+			int index = schema.indexOf(p.getLeft());
+			buf.writeVarInt(index);
+			if (index == EXPLICIT_PATH) writeString(buf, p.getLeft());
+			writeValue(buf, p.getRight());
+		}
+		byte[] bytes = new byte[buf.readableBytes()];
+		buf.readBytes(bytes);
+		return bytes;
+	}
+	
+	/**
+	 * @throws IllegalStateException if the data is not valid for the config
+	 */
+	public static CommentedConfig decode(SimpleConfigImpl config, byte[] data) {
+		return decode(config.getSnapshotSchema(), config.getConfigFormat(), config.getFileName(), data);
+	}
+	
+	/**
+	 * @param name Name of the config, for error messages
+	 * @throws IllegalStateException if the data is not valid for the schema
+	 */
+	static CommentedConfig decode(
+	  Schema schema, ConfigFormat<?> format, String name, byte[] data
+	) {
+		FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(data));
+		try {
+			byte version = buf.readByte();
+			if (version != FORMAT_VERSION) throw new IllegalStateException(
+			  "Unknown snapshot format version: " + version);
+			int hash = buf.readInt();
+			if (hash != schema.hash) throw new IllegalStateException(
+			  "Snapshot schema mismatch for config " + name + ". " +
+			  "The mod version in both ends may be different");
+			CommentedConfig snapshot = CommentedConfig.of(LinkedHashMap::new, format);
+			for (int i = buf.readVarInt(); i > 0; i--) {
+				int index = buf.readVarInt();
+				List<String> path = index == EXPLICIT_PATH
+				                    ? Arrays.asList(AbstractSimpleConfigEntryHolder.DOT.split(readString(buf)))
+				                    : schema.segments(index);
+				Object value = readValue(buf, snapshot, 0);
+				snapshot.set(path, value != null? value : NULL_OBJECT);
+			}
+			return snapshot;
+		} catch (IndexOutOfBoundsException e) {
+			throw new IllegalStateException("Truncated config snapshot", e);
+		} catch (IllegalStateException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			// Malformed var ints, strings, YAML values or conflicting paths
+			throw new IllegalStateException("Malformed config snapshot", e);
+		}
+	}
+	
+	/**
+	 * Compress encoded data, for payloads which are worth caching,
+	 * such as the ones sent to every player logging in
+	 */
+	public static byte[] deflate(byte[] data) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+			byte[] chunk = new byte[4096];
+			while (!deflater.finished()) {
+				int len = deflater.deflate(chunk);
+				out.write(chunk, 0, len);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+	
+	/**
+	 * Decompress data compressed by {@link #deflate}
+	 * @throws IllegalStateException if the data is corrupt
+	 */
+	public static byte[] inflate(byte[] data) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+			byte[] chunk = new byte[4096];
+			while (!inflater.finished()) {
+				int len = inflater.inflate(chunk);
+				if (len == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw new IllegalStateException("Truncated compressed config snapshot");
+				out.write(chunk, 0, len);
+			}
+			return out.toByteArray();
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Corrupt compressed config snapshot", e);
+		} finally {
+			inflater.end();
+		}
+	}
+	
+	private static void collect(
+	  AbstractSimpleConfigEntryHolder holder, Config config, String prefix,
+	  List<Pair<String, Object>> values
+	) {
+		for (Config.Entry e : config.entrySet()) {
+			String key = e.getKey();
+			Object value = e.getRawValue();
+			AbstractSimpleConfigEntryHolder child = holder.children.get(key);
+			if (child != null && value instanceof Config sub) {
+				collect(child, sub, prefix + key + ".", values);
+			} else values.add(Pair.of(prefix + key, value));
+		}
+	}
+	
+	private static void writeString(FriendlyByteBuf buf, String value) {
+		buf.writeByteArray(value.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	private static String readString(FriendlyByteBuf buf) {
+		return new String(buf.readByteArray(), StandardCharsets.UTF_8);
+	}
+	
+	private static void writeValue(FriendlyByteBuf buf, @Nullable Object value) {
+		if (value == null || value instanceof NullObject) {
+			buf.writeByte(NULL);
+		} else if (value instanceof Boolean b) {
+			buf.writeByte(b? TRUE : FALSE);
+		} else if (value instanceof Byte b) {
+			buf.writeByte(BYTE);
+			buf.writeByte(b);
+		} else if (value instanceof Short s) {
+			buf.writeByte(SHORT);
+			buf.writeShort(s);
+		} else if (value instanceof Integer i) {
+			buf.writeByte(INT);
+			buf.writeVarInt(i);
+		} else if (value instanceof Long l) {
+			buf.writeByte(LONG);
+			buf.writeVarLong(l);
+		} else if (value instanceof Float f) {
+			buf.writeByte(FLOAT);
+			buf.writeFloat(f);
+		} else if (value instanceof Double d) {
+			buf.writeByte(DOUBLE);
+			buf.writeDouble(d);
+		} else if (value instanceof String s) {
+			buf.writeByte(STRING);
+			writeString(buf, s);
+		} else if (value instanceof PairList<?, ?> list) {
+			buf.writeByte(PAIR_LIST);
+			buf.writeVarInt(list.size());
+			for (Pair<?, ?> p : list) {
+				writeValue(buf, p.getLeft());
+				writeValue(buf, p.getRight());
+			}
+		} else if (value instanceof List<?> list) {
+			buf.writeByte(value instanceof FlowList? FLOW_LIST : LIST);
+			buf.writeVarInt(list.size());
+			for (Object o : list) writeValue(buf, o);
+		} else if (value instanceof Set<?> set) {
+			buf.writeByte(SET);
+			buf.writeVarInt(set.size());
+			for (Object o : set) writeValue(buf, o);
+		} else if (value instanceof Map<?, ?> map) {
+			buf.writeByte(value instanceof NonConfigMap? NON_CONFIG_MAP : MAP);
+			buf.writeVarInt(map.size());
+			for (Entry<?, ?> e : map.entrySet()) {
+				writeValue(buf, e.getKey());
+				writeValue(buf, e.getValue());
+			}
+		} else if (value instanceof Config config) {
+			buf.writeByte(CONFIG);
+			buf.writeVarInt(config.size());
+			for (Config.Entry e : config.entrySet()) {
+				writeString(buf, e.getKey());
+				writeValue(buf, e.getRawValue());
+			}
+		} else if (value instanceof Triple<?, ?, ?> t) {
+			buf.writeByte(TRIPLE);
+			writeValue(buf, t.getLeft());
+			writeValue(buf, t.getMiddle());
+			writeValue(buf, t.getRight());
+		} else if (value instanceof Pair<?, ?> p) {
+			buf.writeByte(PAIR);
+			writeValue(buf, p.getLeft());
+			writeValue(buf, p.getRight());
+		} else {
+			// Unknown types are sent as YAML, the same way they would be stored in files
+			buf.writeByte(YAML);
+			writeString(buf, SimpleConfigCommentedYamlFormat.getDefaultYaml().dump(value));
+		}
+	}
+	
+	/**
+	 * Read a collection size, which can't exceed the remaining bytes,
+	 * since each element takes at least one
+	 */
+	private static int readSize(FriendlyByteBuf buf) {
+		int size = buf.readVarInt();
+		if (size < 0 || size > buf.readableBytes()) throw new IllegalStateException(
+		  "Invalid collection size in config snapshot: " + size);
+		return size;
+	}
+	
+	private static @Nullable Object readValue(FriendlyByteBuf buf, Config parent, int depth) {
+		byte tag = buf.readByte();
+		if (tag >= LIST && tag <= TRIPLE && ++depth > MAX_DEPTH)
+			throw new IllegalStateException("Config snapshot values nested too deeply");
+		switch (tag) {
+			case NULL: return null;
+			case FALSE: return false;
+			case TRUE: return true;
+			case BYTE: return buf.readByte();
+			case SHORT: return buf.readShort();
+			case INT: return buf.readVarInt();
+			case LONG: return buf.readVarLong();
+			case FLOAT: return buf.readFloat();
+			case DOUBLE: return buf.readDouble();
+			case STRING: return readString(buf);
+			case LIST: case FLOW_LIST: {
+				int size = readSize(buf);
+				List<Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) list.add(readValue(buf, parent, depth));
+				return tag == FLOW_LIST? FlowList.wrap(list) : list;
+			}
+			case PAIR_LIST: {
+				int size = readSize(buf);
+				PairList<Object, Object> list = new PairList<>(size);
+				for (int i = 0; i < size; i++)
+					list.add(Pair.of(readValue(buf, parent, depth), readValue(buf, parent, depth)));
+				return list;
+			}
+			case SET: {
+				int size = readSize(buf);
+				Set<Object> set = new LinkedHashSet<>(size);
+				for (int i = 0; i < size; i++) set.add(readValue(buf, parent, depth));
+				return set;
+			}
+			case MAP: case NON_CONFIG_MAP: {
+				int size = readSize(buf);
+				Map<Object, Object> map = new LinkedHashMap<>(size);
+				for (int i = 0; i < size; i++)
+					map.put(readValue(buf, parent, depth), readValue(buf, parent, depth));
+				return tag == NON_CONFIG_MAP? NonConfigMap.wrap(map) : map;
+			}
+			case CONFIG: {
+				int size = readSize(buf);
+				Config config = parent.createSubConfig();
+				for (int i = 0; i < size; i++) {
+					String key = readString(buf);
+					Object value = readValue(buf, config, depth);
+					config.valueMap().put(key, value != null? value : NULL_OBJECT);
+				}
+				return config;
+			}
+			case PAIR: return Pair.of(readValue(buf, parent, depth), readValue(buf, parent, depth));
+			case TRIPLE: return Triple.of(
+			  readValue(buf, parent, depth), readValue(buf, parent, depth),
+			  readValue(buf, parent, depth));
+			case YAML: return SimpleConfigCommentedYamlFormat.getDefaultYaml().load(readString(buf));
+			default: throw new IllegalStateException("Unknown value tag in config snapshot: " + tag);
+		}
+	}
+	
+	/**
+	 * Ordered list of the persistent entry paths of a config
+	 */
+	@Internal public static class Schema {
+		private final List<String> paths;
+		private final List<List<String>> segments;
+		private final Map<String, Integer> indices;
+		private final int hash;
+		
+		public static Schema of(SimpleConfigImpl config) {
+			List<String> paths = new ArrayList<>();
+			gather(config, "", paths);
+			return new Schema(paths);
+		}
+		
+		private static void gather(AbstractSimpleConfigEntryHolder holder, String prefix, List<String> paths) {
+			// Same order as AbstractSimpleConfigEntryHolder#saveSnapshot
+			holder.children.forEach((k, child) -> gather(child, prefix + k + ".", paths));
+			holder.entries.forEach((k, entry) -> {
+				if (!entry.nonPersistent) paths.add(prefix + k);
+			});
+		}
+		
+		Schema(List<String> paths) {
+			this.paths = paths;
+			segments = new ArrayList<>(paths.size());
+			indices = new HashMap<>(paths.size());
+			for (int i = 0; i < paths.size(); i++) {
+				String path = paths.get(i);
+				segments.add(Arrays.asList(AbstractSimpleConfigEntryHolder.DOT.split(path)));
+				indices.put(path, i + 1);
+			}
+			hash = String.join("\n", paths).hashCode();
+		}
+		
+		public int indexOf(String path) {
+			return indices.getOrDefault(path, EXPLICIT_PATH);
+		}
+		
+		public List<String> segments(int index) {
+			if (index < 1 || index > paths.size()) throw new IllegalStateException(
+			  "Invalid entry index in config snapshot: " + index);
+			return segments.get(index - 1);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package endorh.simpleconfig.core;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import endorh.simpleconfig.yaml.SimpleConfigCommentedYamlFormat;
+import org.jetbrains.annotations.ApiStatus.Internal;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Minimal set of changes to the entries of a config, stored as a partial
+ * snapshot containing only the changed entries.<br>
+ * Deltas can be computed between two snapshots, skipping the subtrees they
+ * share, or wrapped around an existing partial snapshot, such as a patch.<br>
+ * Entries with config-like values (such as maps) are always compared and
+ * stored as a whole, since only entry holders are traversed.
+ */
+@Internal public final class SnapshotDelta {
+	private final SimpleConfigImpl config;
+	private final CommentedConfig values;
+	
+	private SnapshotDelta(SimpleConfigImpl config, CommentedConfig values) {
+		this.config = config;
+		this.values = values;
+	}
+	
+	/**
+	 * Changes from {@code previous} to {@code current}, as produced by
+	 * {@link SimpleConfigImpl#takeSnapshot}
+	 */
+	public static SnapshotDelta diff(
+	  SimpleConfigImpl config, CommentedConfig previous, CommentedConfig current
+	) {
+		SnapshotDelta delta = empty(config);
+		config.diffSnapshot(previous, current, delta.values);
+		return delta;
+	}
+	
+	/**
+	 * Changes from {@code previous} to {@code current}, only traversing the nodes
+	 * not shared by both snapshots
+	 */
+	public static SnapshotDelta diff(
+	  SimpleConfigImpl config, VersionedConfigSnapshot previous, VersionedConfigSnapshot current
+	) {
+		SnapshotDelta delta = empty(config);
+		current.diff(previous, delta.values, null);
+		return delta;
+	}
+	
+	/**
+	 * Wrap a partial snapshot, such as a patch
+	 */
+	public static SnapshotDelta of(SimpleConfigImpl config, CommentedConfig partial) {
+		return new SnapshotDelta(config, partial);
+	}
+	
+	public static SnapshotDelta empty(SimpleConfigImpl config) {
+		return new SnapshotDelta(config, CommentedConfig.of(
+		  LinkedHashMap::new, SimpleConfigCommentedYamlFormat.forConfig(config)));
+	}
+	
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+	
+	/**
+	 * Partial snapshot with the changed values
+	 */
+	public CommentedConfig getValues() {
+		return values;
+	}
+	
+	/**
+	 * Add the changes of a later delta to this one, overriding the changes
+	 * to the same entries
+	 */
+	public void merge(SnapshotDelta later) {
+		config.mergeSnapshot(values, later.values);
+	}
+}
@@ -0,0 +1,103 @@
+package endorh.simpleconfig.core;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import com.electronwill.nightconfig.core.ConfigFormat;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Persistent snapshot of the values of an entry holder, as of its last bake.<br>
+ * Each holder caches its snapshot until one of its entries is baked with a
+ * different value, so consecutive snapshots share the nodes of unchanged
+ * holders, and taking a new snapshot only visits the changed ones.<br>
+ * Nested holders are stored as nested snapshots, and entry values in the
+ * same form as {@link AbstractSimpleConfigEntryHolder#saveSnapshot} would produce.
+ * @see SimpleConfigImpl#getVersionedSnapshot()
+ */
+@Internal public final class VersionedConfigSnapshot {
+	private final long version;
+	private final Map<String, Object> values;
+	
+	VersionedConfigSnapshot(long version, Map<String, Object> values) {
+		this.version = version;
+		this.values = Collections.unmodifiableMap(values);
+	}
+	
+	/**
+	 * Version of the config when this node was built.<br>
+	 * Versions increase monotonically, and shared nodes keep the version
+	 * they were built at.
+	 */
+	public long getVersion() {
+		return version;
+	}
+	
+	public Set<String> keySet() {
+		return values.keySet();
+	}
+	
+	public @Nullable Object get(String key) {
+		return values.get(key);
+	}
+	
+	public boolean contains(String key) {
+		return values.containsKey(key);
+	}
+	
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+	
+	/**
+	 * Copy this snapshot into a new mutable config
+	 * @param keys Top level keys to copy, or {@code null} to copy all of them
+	 */
+	public CommentedConfig toConfig(ConfigFormat<?> format, @Nullable Predicate<String> keys) {
+		CommentedConfig config = CommentedConfig.of(LinkedHashMap::new, format);
+		writeTo(config, keys);
+		return config;
+	}
+	
+	private void writeTo(CommentedConfig config, @Nullable Predicate<String> keys) {
+		Map<String, Object> target = config.valueMap();
+		values.forEach((k, v) -> {
+			if (keys != null && !keys.test(k)) return;
+			if (v instanceof VersionedConfigSnapshot s) {
+				CommentedConfig sub = config.createSubConfig();
+				s.writeTo(sub, null);
+				target.put(k, sub);
+			} else target.put(k, v);
+		});
+	}
+	
+	/**
+	 * Collect into {@code delta} the values of this snapshot that differ from
+	 * {@code previous}, in the same form as {@link AbstractSimpleConfigEntryHolder#diffSnapshot}.<br>
+	 * Nodes shared by both snapshots are skipped without being traversed.
+	 * @param keys Top level keys to compare, or {@code null} to compare all of them
+	 */
+	public void diff(VersionedConfigSnapshot previous, CommentedConfig delta, @Nullable Predicate<String> keys) {
+		if (previous == this) return;
+		Map<String, Object> target = delta.valueMap();
+		values.forEach((k, v) -> {
+			if (keys != null && !keys.test(k)) return;
+			Object prev = previous.values.get(k);
+			if (v instanceof VersionedConfigSnapshot s) {
+				if (prev == s) return;
+				CommentedConfig sub = delta.createSubConfig();
+				if (prev instanceof VersionedConfigSnapshot p) {
+					s.diff(p, sub, null);
+				} else s.writeTo(sub, null);
+				if (!sub.isEmpty()) target.put(k, sub);
+			} else if (!previous.values.containsKey(k) || !Objects.equals(prev, v))
+				target.put(k, v);
+		});
+	}
+}
@@ -133,6 +133,11 @@ public abstract class AbstractRangeEntry<
 		return super.getErrorFromGUI(value);
 	}
 	
+	@Override protected boolean isImmutableValue(R value) {
+		// Ranges are immutable, and their bounds are numbers
+		return true;
+	}
+	
 	protected String serializeElement(V element) {
 		return String.valueOf(element);
 	}
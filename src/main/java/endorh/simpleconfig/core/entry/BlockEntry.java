@@ -108,6 +108,11 @@ public class BlockEntry extends AbstractConfigEntry<Block, String, Block>
 		}
 	}
 	
+	@Override protected boolean isImmutableValue(Block value) {
+		// Blocks are registry singletons
+		return true;
+	}
+	
 	@Override public String forConfig(Block value) {
 		//noinspection ConstantConditions
 		return ForgeRegistries.BLOCKS.getKey(value).toString();
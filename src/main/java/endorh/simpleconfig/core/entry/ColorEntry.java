@@ -62,6 +62,10 @@ public class ColorEntry extends AbstractConfigEntry<Color, String, Integer>
 		}
 	}
 	
+	@Override protected boolean isImmutableValue(Color value) {
+		return true;
+	}
+	
 	@Override public String forConfig(Color value) {
 		return alpha? String.format("#%08X", value.getRGB()) :
 		       String.format("#%06X", value.getRGB() & 0xFFFFFF);
@@ -115,6 +115,11 @@ public class ItemEntry extends AbstractConfigEntry<Item, String, Item>
 		return ForgeRegistries.ITEMS.getValues().stream().filter(filter).collect(Collectors.toList());
 	}
 	
+	@Override protected boolean isImmutableValue(Item value) {
+		// Items are registry singletons
+		return true;
+	}
+	
 	@Override public String forConfig(Item value) {
 		//noinspection ConstantConditions
 		return ForgeRegistries.ITEMS.getKey(value).toString();
@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -194,7 +195,8 @@ public class BindingContext {
 				if (r.getReturnType().matches(EntryType.fromType(m.getGenericReturnType()))) {
 					add(m);
 					Class<?> cls = r.getReturnType().type();
-					return args -> r.castAdapt(invoke(m, null, cls, arg.adapt(args)));
+					MethodHandle invoker = ReflectionUtil.getStaticInvoker(m);
+					return args -> r.castAdapt(invoke(invoker, m, cls, arg.adapt(args)));
 				}
 			}
 			warnMissTypedMethod(name);
@@ -424,6 +426,7 @@ public class BindingContext {
 		
 		public static class AdapterMethodWrapper<R> implements MethodWrapper<R> {
 			public final Method method;
+			private final @Nullable MethodHandle invoker;
 			public final ParametersAdapter paramsAdapter;
 			public final ReturnTypeAdapter<?, R> returnTypeAdapter;
 			public final @NotNull Class<?> cls;
@@ -434,12 +437,13 @@ public class BindingContext {
 				this.paramsAdapter = paramsAdapter;
 				this.returnTypeAdapter = returnTypeAdapter;
 				this.method = method;
+				invoker = ReflectionUtil.getStaticInvoker(method);
 				cls = returnTypeAdapter.getReturnType().type();
 			}
 			
 			@Override public R invoke(Object... args) {
 				return returnTypeAdapter.castAdapt(
-				  FieldParser.invoke(method, null, cls, paramsAdapter.adapt(args)));
+				  FieldParser.invoke(invoker, method, cls, paramsAdapter.adapt(args)));
 			}
 			
 			public String getMethodName() {
@@ -20,6 +20,7 @@ import endorh.simpleconfig.core.AbstractConfigEntry;
 import endorh.simpleconfig.core.AbstractConfigEntryBuilder;
 import endorh.simpleconfig.core.DummyEntryHolder;
 import endorh.simpleconfig.core.EntryType;
+import endorh.simpleconfig.core.ReflectionUtil;
 import endorh.simpleconfig.core.SimpleConfigClassParser.SimpleConfigClassParseException;
 import endorh.simpleconfig.core.reflection.BindingContext.MethodWrapper;
 import endorh.simpleconfig.core.reflection.BindingContext.ParametersAdapter;
@@ -47,6 +48,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.*;
 import java.util.List;
 import java.util.*;
@@ -229,7 +231,8 @@ public class FieldParser {
 				return b.suggest(s.value());
 			} else if (!s.method().isEmpty()) {
 				Method m = c.requireMethod(s.method(), EntryType.from(List.class, String.class));
-				return b.suggest(() -> invoke(m, null, List.class));
+				MethodHandle invoker = ReflectionUtil.getStaticInvoker(m);
+				return b.suggest(() -> invoke(invoker, m, List.class));
 			} else return b.suggest();
 		}).orElse(b));
 		dec(ConfigEntryBuilder.class, (c, d, b) -> d.get(Error.class).map(s -> {
@@ -680,6 +683,26 @@ public class FieldParser {
 		}
 	}
 	
+	/**
+	 * Invoke a static method through an invoker obtained from
+	 * {@link ReflectionUtil#getStaticInvoker(Method)}.<br>
+	 * Falls back to reflection if the invoker is {@code null}.
+	 */
+	static <T> T invoke(
+	  @Nullable MethodHandle invoker, Method method, Class<T> type, Object... args
+	) {
+		if (invoker == null) return invoke(method, null, type, args);
+		try {
+			return type.cast((Object) invoker.invokeExact(args));
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new ConfigReflectiveOperationException(
+			  "Error accessing config method: " + getMethodName(method) +
+			  "\n  Details: " + e.getMessage(), (Exception) e);
+		}
+	}
+	
 	public static class UnexpectedFieldParsingException extends SimpleConfigClassParseException {
 		public UnexpectedFieldParsingException(EntryTypeData data, String message) {
 			super(data.getContextClass(), message);
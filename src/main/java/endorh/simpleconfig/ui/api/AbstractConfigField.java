@@ -20,6 +20,7 @@ import endorh.simpleconfig.ui.hotkey.SimpleHotKeyActionType;
 import endorh.simpleconfig.ui.hotkey.SimpleHotKeyActionType.SimpleHotKeyAction;
 import endorh.simpleconfig.ui.impl.ISeekableComponent;
 import net.minecraft.ChatFormatting;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.events.GuiEventListener;
@@ -36,7 +37,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -62,8 +65,17 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 	private boolean hasError;
 	private boolean updatedValue = false; // Reset after every tick
 	
+	// Errors are only recomputed when their validation key changes or they're invalidated
+	private @Nullable ValidationKey validationKey = null;
+	private boolean errorsDirty = true;
+	private boolean trackingValue = false;
+	private @Nullable T trackedValue = null;
+	private @Nullable ValidationResult<T> validationResult = null;
+	private @Nullable CompletableFuture<ValidationResult<T>> pendingValidation = null;
+	private boolean asyncValidation = false;
+	
 	@NotNull private Supplier<T> defaultSupplier = () -> null;
-	@Nullable private Supplier<Optional<Component>> errorSupplier = null;
+	@Nullable private Function<T, Optional<Component>> errorSupplier = null;
 	@Nullable private Consumer<T> saveConsumer = null;
 	
 	private boolean isSubEntry = false;
@@ -223,6 +235,11 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 		this.parentEntry = parentEntry;
 	}
 	
+	@Override public AbstractConfigField<?> getRootEntry() {
+		AbstractConfigField<?> parent = getParentEntry();
+		return parent != null? parent.getRootEntry() : this;
+	}
+	
 	public @Nullable BaseListEntry<?, ?, ?> getListParent() {
 		return parentEntry instanceof BaseListEntry<?, ?, ?>
 		       ? (BaseListEntry<?, ?, ?>) parentEntry
@@ -346,6 +363,7 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 			setValue((T) storedValue);
 			if (isDisplayingValue()) //noinspection unchecked
 				setDisplayedValue((T) storedValue);
+			getScreen().onEntryValueChanged(this);
 			applyFocusHighlight(HighlightColors.HISTORY);
 		} catch (RuntimeException e) {
 			applyFocusHighlight(HighlightColors.ERROR);
@@ -434,6 +452,8 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 	public void runTransparentAction(Runnable action) {
 		preserveState();
 		action.run();
+		// Entries in hidden categories aren't ticked
+		getScreen().onEntryValueChanged(this);
 	}
 	
 	public @Nullable ResetButton getResetButton() {
@@ -468,13 +488,80 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 	 */
 	public List<EntryError> getEntryErrors() {
 		List<EntryError> errors = new ArrayList<>();
-		if (errorSupplier != null)
-			errorSupplier.get().ifPresent(e -> errors.add(EntryError.of(e, this)));
+		getSuppliedError().ifPresent(e -> errors.add(EntryError.of(e, this)));
 		if (errors.isEmpty())
 			getErrorMessage().ifPresent(e -> errors.add(EntryError.of(e, this)));
 		return errors;
 	}
 	
+	/**
+	 * Result of the error supplier for the current value.<br>
+	 * Results are memoized per value, until the value of any entry in the screen
+	 * changes, since error suppliers may depend on other entries.<br>
+	 * The entries an error supplier depends on aren't tracked, so editing any entry
+	 * runs the error suppliers of all entries again, once. Memoization only avoids
+	 * running them on every tick while no value changes.<br>
+	 * In {@link #isAsyncValidation() async} mode, the last known result is returned
+	 * until the validation of the current value completes.
+	 */
+	protected Optional<Component> getSuppliedError() {
+		Function<T, Optional<Component>> errorSupplier = this.errorSupplier;
+		if (errorSupplier == null) return Optional.empty();
+		T value = getValue();
+		long version;
+		try {
+			version = getScreen().getValidationVersion();
+		} catch (IllegalStateException e) {
+			return errorSupplier.apply(value);
+		}
+		ValidationResult<T> result = validationResult;
+		if (result != null && result.version() == version && areEqual(result.value(), value))
+			return result.error();
+		if (!isAsyncValidation()) {
+			validationResult = new ValidationResult<>(value, version, errorSupplier.apply(value));
+			return validationResult.error();
+		}
+		if (pendingValidation == null) pendingValidation = CompletableFuture.supplyAsync(
+		  () -> new ValidationResult<>(value, version, errorSupplier.apply(value)),
+		  Util.backgroundExecutor());
+		return result != null? result.error() : Optional.empty();
+	}
+	
+	/**
+	 * Apply the result of a completed async validation
+	 */
+	private void pollValidation() {
+		CompletableFuture<ValidationResult<T>> pending = pendingValidation;
+		if (pending == null || !pending.isDone()) return;
+		pendingValidation = null;
+		try {
+			validationResult = pending.join();
+		} catch (RuntimeException e) {
+			LOGGER.error("Error validating config entry with path " + getPath(), e);
+		}
+		invalidateErrors();
+	}
+	
+	/**
+	 * Whether an async validation is still running
+	 */
+	public boolean isValidating() {
+		return pendingValidation != null;
+	}
+	
+	public boolean isAsyncValidation() {
+		return asyncValidation;
+	}
+	
+	/**
+	 * Run the error supplier in a background thread, for expensive checks.<br>
+	 * The error supplier must be thread-safe in this mode.
+	 */
+	public void setAsyncValidation(boolean async) {
+		asyncValidation = async;
+		invalidateErrors();
+	}
+	
 	public boolean hasError() {
 		return hasError;
 	}
@@ -486,10 +573,63 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 		            .anyMatch(AbstractConfigField::hasError);
 	}
 	
-	public void setErrorSupplier(@Nullable Supplier<Optional<Component>> errorSupplier) {
+	/**
+	 * Recompute the errors of this entry in the next tick.<br>
+	 * Errors are otherwise only recomputed when the {@link #getValidationState() validation state}
+	 * of the entry changes, or the value of any entry in the screen changes.
+	 */
+	public void invalidateErrors() {
+		errorsDirty = true;
+	}
+	
+	/**
+	 * State other than the value that the {@link #getErrorMessage() error message}
+	 * depends on, such as the text of a text field
+	 */
+	protected @Nullable Object getValidationState() {
+		return null;
+	}
+	
+	private ValidationKey getValidationKey() {
+		boolean hotKey = isEditingHotKeyAction();
+		return new ValidationKey(
+		  hotKey, hotKey? getHotKeyActionType() : null, hotKey? getHotKeyActionValue() : getValue(),
+		  getValidationState(), getScreen().getValidationVersion());
+	}
+	
+	/**
+	 * Recompute the errors of this entry if needed, notifying the parent
+	 * entry if its error state changes
+	 */
+	protected void updateErrors() {
+		pollValidation();
+		T value = getValue();
+		if (!trackingValue) {
+			trackingValue = true;
+			trackedValue = value;
+		} else if (!areEqual(value, trackedValue)) {
+			trackedValue = value;
+			getScreen().onEntryValueChanged(this);
+		}
+		ValidationKey key = getValidationKey();
+		if (!errorsDirty && key.equals(validationKey)) return;
+		errorsDirty = false;
+		validationKey = key;
+		List<EntryError> prevErrors = errors;
+		boolean prevHasError = hasError;
+		errors = computeErrors();
+		hasError = computeHasError();
+		AbstractConfigField<?> parent = getParentEntry();
+		if (parent != null && (hasError != prevHasError || !EntryError.areEqual(errors, prevErrors)))
+			parent.invalidateErrors();
+	}
+	
+	public void setErrorSupplier(@Nullable Function<T, Optional<Component>> errorSupplier) {
 		this.errorSupplier = errorSupplier;
+		validationResult = null;
+		invalidateErrors();
 	}
-	public @Nullable Supplier<Optional<Component>> getErrorSupplier() {
+	public @Nullable Function<T, Optional<Component>> getErrorSupplier() {
 		return errorSupplier;
 	}
 	
@@ -664,8 +804,7 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 			((IEntryHolder) this).getHeldEntries().forEach(AbstractConfigField::tick);
 		if (isEditingHotKeyAction()) hotKeyActionButton.tick();
 		// Errors and edited are updating after ticking subentries
-		errors = computeErrors();
-		hasError = computeHasError();
+		updateErrors();
 		isEdited = computeIsEdited();
 		resetButton.tick();
 		updatedValue = false;
@@ -697,6 +836,16 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 		entryList = parent;
 	}
 	
+	/**
+	 * Notify the entry list that the height of this entry is changing
+	 * @param animationLength Length of the animation of the change, in milliseconds
+	 */
+	protected void invalidateHeight(long animationLength) {
+		try {
+			getEntryList().invalidateItemHeights(animationLength);
+		} catch (IllegalStateException ignored) {}
+	}
+	
 	public void renderBg(
       GuiGraphics gg, int index, int x, int y, int w, int h, int mouseX, int mouseY,
       boolean isHovered, float delta
@@ -977,4 +1126,11 @@ public abstract class AbstractConfigField<T> extends DynamicElementListWidget.El
 		  .ifPresent(errors::add);
 		return errors;
 	}
+	
+	private record ValidationKey(
+	  boolean hotKey, @Nullable Object hotKeyType, @Nullable Object value,
+	  @Nullable Object state, long version
+	) {}
+	
+	private record ValidationResult<T>(T value, long version, Optional<Component> error) {}
 }
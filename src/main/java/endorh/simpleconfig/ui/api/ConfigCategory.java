@@ -13,6 +13,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 @OnlyIn(value = Dist.CLIENT)
@@ -20,8 +21,26 @@ public interface ConfigCategory extends IEntryHolder {
 	Component getTitle();
 	void setTitle(Component name);
 	
+	/**
+	 * Entries of this category, which are built the first time they're requested.
+	 * @see #isBuilt()
+	 */
 	@Override @Internal List<AbstractConfigField<?>> getHeldEntries();
 	
+	/**
+	 * Whether the entries of this category have been built.<br>
+	 * Until then, recursive queries such as {@link #getAllMainEntries()} or
+	 * {@link #getErrors()} report no entries, since entries can't be edited
+	 * before being built.
+	 */
+	boolean isBuilt();
+	
+	/**
+	 * Run an action once the entries of this category are built, or
+	 * immediately if they've already been built
+	 */
+	@Internal void onBuilt(Consumer<ConfigCategory> listener);
+	
 	String getName();
 	ConfigCategory addEntry(AbstractConfigListEntry<?> entry);
 	@Internal void removeEntry(String name);
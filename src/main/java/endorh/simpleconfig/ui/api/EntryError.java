@@ -2,6 +2,8 @@ package endorh.simpleconfig.ui.api;
 
 import net.minecraft.network.chat.Component;
 
+import java.util.List;
+
 public class EntryError {
 	protected Component error;
 	protected INavigableTarget source;
@@ -23,6 +25,19 @@ public class EntryError {
 		return new EntryError(error, cause.source);
 	}
 	
+	/**
+	 * Whether two lists of errors report the same messages for the same sources
+	 */
+	public static boolean areEqual(List<EntryError> errors, List<EntryError> other) {
+		if (errors == other) return true;
+		if (errors.size() != other.size()) return false;
+		for (int i = 0; i < errors.size(); i++) {
+			EntryError a = errors.get(i), b = other.get(i);
+			if (a.source != b.source || !a.error.equals(b.error)) return false;
+		}
+		return true;
+	}
+	
 	public Component getError() {
 		return error;
 	}
@@ -93,6 +93,7 @@ public abstract class AbstractConfigScreen extends Screen
 	protected SortedOverlayCollection sortedOverlays = new SortedOverlayCollection();
 	
 	protected EditHistory history;
+	private long validationVersion = 0L;
 	protected @Nullable ConfigHotKey editedConfigHotKey;
 	protected Consumer<Boolean> hotKeySaver = null;
 	
@@ -259,6 +260,7 @@ public abstract class AbstractConfigScreen extends Screen
 	
 	@Override public boolean isEdited() {
 		for (ConfigCategory cat : sortedCategories) {
+			if (!cat.isBuilt()) continue;
 			for (AbstractConfigField<?> entry : cat.getHeldEntries()) {
 				if (!entry.isEdited()) continue;
 				return true;
@@ -279,6 +281,35 @@ public abstract class AbstractConfigScreen extends Screen
 		return sortedCategoriesMap.get(getEditedType());
 	}
 	
+	/**
+	 * Build the entries of all the categories of a type, which are otherwise
+	 * built when their category is first displayed
+	 */
+	@Internal public void buildCategoryEntries(EditType type) {
+		for (ConfigCategory category : sortedCategoriesMap.get(type))
+			category.getHeldEntries();
+	}
+	
+	/**
+	 * Incremented every time the value of any entry changes, since error
+	 * suppliers may depend on the values of other entries
+	 */
+	@Internal public long getValidationVersion() {
+		return validationVersion;
+	}
+	
+	@Internal public void invalidateValidation() {
+		validationVersion++;
+	}
+	
+	/**
+	 * Called when the value of an entry changes, either on tick or
+	 * when set programmatically
+	 */
+	@Internal public void onEntryValueChanged(AbstractConfigField<?> entry) {
+		invalidateValidation();
+	}
+	
 	public Map<String, ConfigCategory> getTypeCategories(EditType type) {
 		return categoryMap.get(type.getAlias());
 	}
@@ -430,9 +461,12 @@ public abstract class AbstractConfigScreen extends Screen
 	
 	protected void doSaveAll(boolean openOtherScreens, boolean allowErrors) {
 		if (hasErrors() && !allowErrors) return;
-		for (ConfigCategory cat : sortedCategories)
+		for (ConfigCategory cat : sortedCategories) {
+			// Entries that haven't been built can't have been edited
+			if (!cat.isBuilt()) continue;
 			for (AbstractConfigField<?> entry : cat.getHeldEntries())
 				entry.save();
+		}
 		if (remoteConfigProvider != null) for (EditType type: loadedRemoteConfigs) {
 			boolean requiresRestart = sortedCategoriesMap.get(type).stream()
 			  .flatMap(c -> c.getAllMainEntries().stream())
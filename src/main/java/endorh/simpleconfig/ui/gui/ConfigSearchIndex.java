@@ -0,0 +1,291 @@
+package endorh.simpleconfig.ui.gui;
+
+import endorh.simpleconfig.ui.api.AbstractConfigField;
+import endorh.simpleconfig.ui.api.ConfigCategory;
+import endorh.simpleconfig.ui.api.IEntryHolder;
+import endorh.simpleconfig.ui.gui.entries.TooltipListEntry;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+import it.unimi.dsi.fastutil.ints.IntSortedSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.Util;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of the searchable text of the entries of a config screen, used
+ * to count the matches in the categories that aren't displayed.<br>
+ * Counts are debounced, and run in a background thread over immutable
+ * documents. Before each count, only the documents of the entries
+ * {@link #markChanged marked as changed} are refreshed in the main thread.
+ * Since tooltips may depend on other entries, all of them are refreshed
+ * when searching tooltips after any entry changes.<br>
+ * Literal queries extending the previous one only test the entries
+ * it matched, and the ones that changed since.<br>
+ * Categories whose entries haven't been built aren't counted.
+ */
+@OnlyIn(Dist.CLIENT) @Internal
+public class ConfigSearchIndex {
+	private static final Logger LOGGER = LogManager.getLogger();
+	private static final long DEBOUNCE_MS = 150L;
+	
+	private final AbstractConfigScreen screen;
+	private final Map<ConfigCategory, CategoryIndex> categories = new HashMap<>();
+	private @Nullable SearchQuery scheduled = null;
+	private long scheduledTime = 0L;
+	private @Nullable SearchQuery pendingQuery = null;
+	private @Nullable CompletableFuture<Map<ConfigCategory, IntList>> pending = null;
+	
+	public ConfigSearchIndex(AbstractConfigScreen screen) {
+		this.screen = screen;
+	}
+	
+	/**
+	 * Schedule a count of the matches of a query in some categories.<br>
+	 * Counts scheduled before the previous one starts replace it.
+	 */
+	public void query(Pattern pattern, boolean tooltips, Collection<ConfigCategory> categories) {
+		scheduled = new SearchQuery(pattern, tooltips, List.copyOf(categories));
+		scheduledTime = Util.getMillis();
+	}
+	
+	/**
+	 * Refresh the document of an entry, and its parents, in the next count
+	 */
+	public void markChanged(AbstractConfigField<?> entry) {
+		CategoryIndex index = categories.get(entry.getCategory());
+		if (index == null) return;
+		for (AbstractConfigField<?> e = entry; e != null; e = e.getParentEntry())
+			index.changed.add(e);
+		// Holders may hold different entries after their value changes
+		if (entry instanceof IEntryHolder) index.structureChanged = true;
+	}
+	
+	/**
+	 * Discard the scheduled and running counts
+	 */
+	public void cancel() {
+		scheduled = null;
+		if (pending != null) {
+			pending = null;
+			pendingQuery = null;
+			// The documents refreshed for the discarded count weren't matched
+			categories.values().forEach(CategoryIndex::clearMatches);
+		}
+	}
+	
+	/**
+	 * Report the completed count, if any, and start the scheduled count once debounced
+	 * @param onCount Receives the number of matches of each counted category
+	 */
+	public void tick(Consumer<Map<ConfigCategory, Integer>> onCount) {
+		CompletableFuture<Map<ConfigCategory, IntList>> pending = this.pending;
+		if (pending != null && pending.isDone()) {
+			SearchQuery query = pendingQuery;
+			this.pending = null;
+			pendingQuery = null;
+			try {
+				Map<ConfigCategory, IntList> matches = pending.join();
+				Map<ConfigCategory, Integer> counts = new HashMap<>();
+				matches.forEach((c, m) -> {
+					categories.get(c).setMatches(query, m);
+					counts.put(c, m.size());
+				});
+				onCount.accept(counts);
+			} catch (RuntimeException e) {
+				LOGGER.error("Error counting search matches", e);
+				categories.values().forEach(CategoryIndex::clearMatches);
+			}
+		}
+		SearchQuery query = scheduled;
+		if (query != null && this.pending == null && Util.getMillis() - scheduledTime >= DEBOUNCE_MS) {
+			scheduled = null;
+			// Documents are refreshed in the main thread, since entries aren't thread-safe
+			Map<ConfigCategory, CategorySearch> searches = new LinkedHashMap<>();
+			long version = screen.getValidationVersion();
+			for (ConfigCategory category : query.categories())
+				if (category.isBuilt()) searches.put(category, categories.computeIfAbsent(
+				  category, CategoryIndex::new
+				).prepare(query, version));
+			pendingQuery = query;
+			this.pending = CompletableFuture.supplyAsync(() -> {
+				Map<ConfigCategory, IntList> matches = new HashMap<>();
+				searches.forEach((c, s) -> matches.put(c, s.match(query)));
+				return matches;
+			}, Util.backgroundExecutor());
+		}
+	}
+	
+	private static void collectEntries(AbstractConfigField<?> entry, List<AbstractConfigField<?>> entries) {
+		entries.add(entry);
+		if (entry instanceof IEntryHolder holder)
+			holder.getHeldEntries().forEach(e -> collectEntries(e, entries));
+	}
+	
+	private static final class CategoryIndex {
+		private final ConfigCategory category;
+		private List<AbstractConfigField<?>> entries = Collections.emptyList();
+		private final Reference2IntMap<AbstractConfigField<?>> positions = new Reference2IntOpenHashMap<>();
+		private Document[] documents = new Document[0];
+		private final Set<AbstractConfigField<?>> changed = new ReferenceOpenHashSet<>();
+		private boolean structureChanged = true;
+		private boolean tooltips = false;
+		private long tooltipsVersion = -1L;
+		private @Nullable SearchQuery matchedQuery = null;
+		private @Nullable IntList matches = null;
+		
+		private CategoryIndex(ConfigCategory category) {
+			this.category = category;
+			positions.defaultReturnValue(-1);
+		}
+		
+		/**
+		 * Refresh the documents of the changed entries, and choose the ones
+		 * to test for the query.<br>
+		 * Documents are only read by the count started after this call,
+		 * so they're updated in place.
+		 * @param version Validation version of the screen, which tooltips depend on
+		 */
+		private CategorySearch prepare(SearchQuery query, long version) {
+			IntList changedDocuments = new IntArrayList();
+			boolean all = query.tooltips() != tooltips
+			              || query.tooltips() && version != tooltipsVersion;
+			if (structureChanged) {
+				structureChanged = false;
+				List<AbstractConfigField<?>> entries = new ArrayList<>();
+				category.getHeldEntries().forEach(e -> collectEntries(e, entries));
+				Document[] documents = new Document[entries.size()];
+				Reference2IntMap<AbstractConfigField<?>> positions = new Reference2IntOpenHashMap<>();
+				for (int i = 0; i < documents.length; i++) {
+					AbstractConfigField<?> entry = entries.get(i);
+					int prev = this.positions.getInt(entry);
+					documents[i] = prev >= 0? this.documents[prev] : null;
+					positions.put(entry, i);
+				}
+				// Match indices refer to the previous entries
+				if (!entries.equals(this.entries)) clearMatches();
+				this.entries = entries;
+				this.documents = documents;
+				this.positions.clear();
+				this.positions.putAll(positions);
+			}
+			if (all) {
+				for (int i = 0; i < documents.length; i++)
+					refresh(i, query, changedDocuments);
+			} else {
+				for (AbstractConfigField<?> entry : changed) {
+					int i = positions.getInt(entry);
+					if (i >= 0) refresh(i, query, changedDocuments);
+				}
+				// New entries
+				for (int i = 0; i < documents.length; i++)
+					if (documents[i] == null) refresh(i, query, changedDocuments);
+			}
+			changed.clear();
+			tooltips = query.tooltips();
+			tooltipsVersion = version;
+			int[] candidates = null;
+			if (matches != null && matchedQuery != null && query.refines(matchedQuery)) {
+				IntSortedSet set = new IntRBTreeSet(matches);
+				set.addAll(changedDocuments);
+				candidates = set.toIntArray();
+			}
+			return new CategorySearch(documents, candidates);
+		}
+		
+		private void refresh(int i, SearchQuery query, IntList changedDocuments) {
+			Document document = Document.of(entries.get(i), query.tooltips());
+			if (!document.equals(documents[i])) {
+				documents[i] = document;
+				changedDocuments.add(i);
+			}
+		}
+		
+		private void setMatches(SearchQuery query, IntList matches) {
+			matchedQuery = query;
+			this.matches = matches;
+		}
+		
+		private void clearMatches() {
+			matchedQuery = null;
+			matches = null;
+		}
+	}
+	
+	/**
+	 * Immutable search input for a category
+	 * @param candidates Indices of the only documents that may match, or {@code null}
+	 *                   to test all of them
+	 */
+	private record CategorySearch(Document[] documents, @Nullable int[] candidates) {
+		private IntList match(SearchQuery query) {
+			IntList matches = new IntArrayList();
+			if (candidates != null) {
+				for (int i : candidates)
+					if (documents[i].matches(query)) matches.add(i);
+			} else for (int i = 0; i < documents.length; i++)
+				if (documents[i].matches(query)) matches.add(i);
+			return matches;
+		}
+	}
+	
+	/**
+	 * Text of an entry matched by {@link AbstractConfigField#search(Pattern)}
+	 */
+	private record Document(String title, String value, String tooltip) {
+		private static Document of(AbstractConfigField<?> entry, boolean tooltips) {
+			return new Document(
+			  entry.seekableText(), entry.seekableValueText(),
+			  tooltips && entry instanceof TooltipListEntry<?> t? t.getSearchableTooltipText() : "");
+		}
+		
+		private boolean matches(SearchQuery query) {
+			Pattern pattern = query.pattern();
+			return find(pattern, title) || find(pattern, value)
+			       || query.tooltips() && find(pattern, tooltip);
+		}
+		
+		private static boolean find(Pattern pattern, String text) {
+			if (text.isEmpty()) return false;
+			Matcher m = pattern.matcher(text);
+			while (m.find()) if (!m.group().isEmpty()) return true;
+			return false;
+		}
+	}
+	
+	private record SearchQuery(Pattern pattern, boolean tooltips, List<ConfigCategory> categories) {
+		/**
+		 * Quoted text of a literal query, as built by the search bar
+		 */
+		private @Nullable String getLiteral() {
+			String p = pattern.pattern();
+			if (!p.startsWith("\\Q") || !p.endsWith("\\E")) return null;
+			String literal = p.substring(2, p.length() - 2);
+			return literal.contains("\\E")? null : literal;
+		}
+		
+		/**
+		 * Whether all matches of this query are also matches of a previous one
+		 */
+		private boolean refines(SearchQuery previous) {
+			if (tooltips != previous.tooltips || pattern.flags() != previous.pattern.flags())
+				return false;
+			String literal = getLiteral();
+			String prev = previous.getLiteral();
+			return literal != null && prev != null && !prev.isEmpty() && literal.contains(prev);
+		}
+	}
+}
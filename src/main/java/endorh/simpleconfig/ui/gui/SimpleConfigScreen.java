@@ -132,6 +132,7 @@ import static net.minecraft.util.Mth.clamp;
 	protected double tabsMaximumScrolled = -1.0;
 	protected final List<ConfigCategoryButton> tabButtons = Lists.newArrayList();
 	protected TooltipSearchBarWidget searchBar;
+	protected final ConfigSearchIndex searchIndex = new ConfigSearchIndex(this);
 	protected StatusDisplayBar statusDisplayBar;
 	protected boolean scheduledLayout = false;
 	
@@ -141,6 +142,7 @@ import static net.minecraft.util.Mth.clamp;
 	protected EnumMap<EditType, ConfigCategory> lastCategories = new EnumMap<>(EditType.class);
 	protected @Nullable IConfigScreenGUIState scheduledGUIState;
 	protected @Nullable IConfigScreenGUIState lastRestoredGUIState;
+	protected final Map<ConfigCategory, IConfigCategoryGUIState> pendingCategoryStates = new HashMap<>();
 	protected @Nullable INavigableTarget scheduledTarget;
 	protected int scheduledTargetDelay = 0;
 	protected boolean showingHelp = false;
@@ -158,12 +160,8 @@ import static net.minecraft.util.Mth.clamp;
 		super(parent, modId, title, backgroundLocation,
 		      clientCategories, commonCategories, serverCommonCategories, serverCategories);
 		displayTitle = Component.literal(getModNameOrId(modId));
-		for (ConfigCategory category : sortedCategories) {
-			for (AbstractConfigField<?> entry : category.getHeldEntries()) {
-				entry.setCategory(category);
-				entry.setScreen(this);
-			}
-		}
+		for (ConfigCategory category : sortedCategories)
+			category.onBuilt(this::initCategoryEntries);
 		selectedCategory = sortedCategories.stream().findFirst().orElseThrow(
 		  () -> new IllegalArgumentException("No categories for config GUI"));
 		sortedCategories.stream().filter(c -> !c.isLoaded()).forEach(c -> {
@@ -285,8 +283,22 @@ import static net.minecraft.util.Mth.clamp;
 		return super.isEditingServer() || getEditedType().isOnlyRemote();
 	}
 	
+	/**
+	 * Called once the entries of a category are built, which happens
+	 * the first time the category is displayed
+	 */
+	protected void initCategoryEntries(ConfigCategory category) {
+		for (AbstractConfigField<?> entry : category.getHeldEntries()) {
+			entry.setCategory(category);
+			entry.setScreen(this);
+		}
+		if (isEditingConfigHotKey())
+			category.getAllMainEntries().forEach(e -> e.setEditingHotKeyAction(true));
+	}
+	
 	@Override public List<AbstractConfigField<?>> getHeldEntries() {
 		return sortedCategories.stream()
+		  .filter(ConfigCategory::isBuilt)
 		  .flatMap(c -> c.getHeldEntries().stream())
 		  .collect(Collectors.toList());
 	}
@@ -509,13 +521,16 @@ import static net.minecraft.util.Mth.clamp;
 	}
 	
 	public ListWidget<AbstractConfigField<?>> getListWidget(ConfigCategory category) {
-		return listWidgets.computeIfAbsent(category, c -> {
+		ListWidget<AbstractConfigField<?>> widget = listWidgets.computeIfAbsent(category, c -> {
 			final ListWidget<AbstractConfigField<?>> w = new ListWidget<>(
 			  this, minecraft, width, height, category, isShowingTabs()? 50 : 24,
 			  height - 28, c.getBackground() != null? c.getBackground() : backgroundLocation);
 			if (category.isLoaded()) initListWidget(category, w);
 			return w;
 		});
+		IConfigCategoryGUIState state = pendingCategoryStates.remove(category);
+		if (state != null) loadConfigCategoryGUIState(category, state);
+		return widget;
 	}
 	
 	protected void initListWidget(
@@ -709,7 +724,12 @@ import static net.minecraft.util.Mth.clamp;
 				Map<String, ConfigCategory> typeCategories = getTypeCategories(t);
 				m.forEach((n, s) -> {
 					ConfigCategory c = typeCategories.get(n);
-					if (c != null) loadConfigCategoryGUIState(c, s);
+					if (c != null) {
+						// Avoid building categories just to restore their state
+						if (c.isBuilt() || c == getSelectedCategory()) {
+							loadConfigCategoryGUIState(c, s);
+						} else pendingCategoryStates.put(c, s);
+					}
 				});
 			});
 		}
@@ -752,6 +772,8 @@ import static net.minecraft.util.Mth.clamp;
 	}
 	
 	protected IConfigCategoryGUIState saveConfigCategoryGUIState(ConfigCategory category) {
+		IConfigCategoryGUIState pending = pendingCategoryStates.get(category);
+		if (pending != null) return pending;
 		ConfigCategoryGUIState state = new ConfigCategoryGUIState();
 		ListWidget<AbstractConfigField<?>> widget = listWidgets.get(category);
 		Map<String, Boolean> states = state.getExpandStates();
@@ -977,6 +999,11 @@ import static net.minecraft.util.Mth.clamp;
 		}
 	}
 	
+	@Override public void onEntryValueChanged(AbstractConfigField<?> entry) {
+		super.onEntryValueChanged(entry);
+		searchIndex.markChanged(entry);
+	}
+	
 	@Override public void tick() {
 		if (scheduledTarget != null && scheduledTargetDelay-- <= 0) {
 			scheduledTarget.navigate();
@@ -986,6 +1013,7 @@ import static net.minecraft.util.Mth.clamp;
 			init(Minecraft.getInstance(), width, height);
 		super.tick();
 		listWidget.tick();
+		searchIndex.tick(this::updateTabMatches);
 		updateErrors();
 		updateIsEdited();
 		statusDisplayBar.tick();
@@ -1086,6 +1114,8 @@ import static net.minecraft.util.Mth.clamp;
 		Function<Integer, Integer> catStep = forwards ? j -> (j + 1) % cs : j -> (j - 1 + cs) % cs;
 		for (int j = catStep.apply(selectedIndex); j != selectedIndex; j = catStep.apply(j)) {
 			ConfigCategory cat = sortedCategories.get(j);
+			// Entries that haven't been built can't have been edited
+			if (!cat.isBuilt()) continue;
 			List<INavigableTarget> catTargets = getListWidget(cat)
 			  .getNavigableTargets(false, true);
 			if (!forwards) catTargets = Lists.reverse(catTargets);
@@ -1246,6 +1276,7 @@ import static net.minecraft.util.Mth.clamp;
 		private double currentHeight;
 		private final ToggleAnimator tabSlideAnimator = new ToggleAnimator(100);
 		private EntryDragAction<?> entryDragAction;
+		private boolean filtered;
 		public Rectangle target;
 		public Rectangle thisTimeTarget;
 		public long lastTouch;
@@ -1363,6 +1394,13 @@ import static net.minecraft.util.Mth.clamp;
 				mStack.pushPose();
 				mStack.translate(-tabSlideAnimator.getEaseOut(), 0, 0);
 			}
+			// Opening or closing a filtering search bar shows or hides entries
+			SearchBarWidget bar = screen.getSearchBar();
+			boolean filtered = bar.isExpanded() && bar.isFilter() && !bar.isEmpty();
+			if (filtered != this.filtered) {
+				this.filtered = filtered;
+				invalidateItemHeights();
+			}
 			/* gg */ {
 				// Needs to be checked even when the mouse is not moved (due to the mouse wheel)
 				if (entryDragAction != null) entryDragAction.applyToList(this, mouseX, mouseY);
@@ -1506,20 +1544,25 @@ import static net.minecraft.util.Mth.clamp;
 	
 	@Override public Pair<Integer, Integer> query(Pattern query) {
 		final Pair<Integer, Integer> result = listWidget.search(query);
-		final Map<ConfigCategory, Long> searches =
-		  sortedCategories.stream().filter(p -> p != selectedCategory)
-			 .collect(Collectors.toMap(c -> c, c -> c.getHeldEntries().stream()
-				.mapToLong(e -> e.search(query).size()).sum()));
-		for (ConfigCategoryButton button : tabButtons)
-			button.setTintColor(searches.getOrDefault(button.category, 0L) > 0 ? 0x80BDBD42 : 0);
+		// Other categories are counted in the background, once the query settles
+		searchIndex.query(query, searchBar.isSearchTooltips(), sortedCategories.stream()
+		  .filter(c -> c != selectedCategory).toList());
 		return result;
 	}
 	
+	protected void updateTabMatches(Map<ConfigCategory, Integer> matches) {
+		for (ConfigCategoryButton button : tabButtons)
+			button.setTintColor(
+			  button.category != selectedCategory && matches.getOrDefault(button.category, 0) > 0
+			  ? 0x80BDBD42 : 0);
+	}
+	
 	@SuppressWarnings("RegExpUnexpectedAnchor" ) protected static final Pattern NO_MATCH =
 	  Pattern.compile("$^" );
 	
 	@Override public void dismissQuery() {
 		listWidget.search(NO_MATCH);
+		searchIndex.cancel();
 		tabButtons.forEach(b -> b.setTintColor(0));
 	}
 	
@@ -19,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -32,6 +33,8 @@ public abstract class AbstractListListEntry<T, C extends AbstractListCell<T, C,
 	protected BiFunction<Integer, T, Optional<Component>> cellErrorSupplier = (i, t) -> Optional.empty();
 	protected Function<List<T>, @Nullable List<Optional<Component>>> multiCellErrorSupplier = l -> null;
 	protected @Nullable List<Optional<Component>> multiCellErrors = null;
+	private @Nullable List<T> multiCellErrorsValue = null;
+	private long multiCellErrorsVersion = -1L;
 	
 	@Internal protected AbstractListListEntry(
       Component fieldName, List<T> value, Function<SELF, C> createNewCell
@@ -59,6 +62,7 @@ public abstract class AbstractListListEntry<T, C extends AbstractListCell<T, C,
 	
 	public void setMultiCellErrorSupplier(Function<List<T>, @Nullable List<Optional<Component>>> multiCellErrorSupplier) {
 		this.multiCellErrorSupplier = multiCellErrorSupplier;
+		multiCellErrorsVersion = -1L;
 		final List<T> value = getValue();
 		setValue(value);
 		setDisplayedValue(value);
@@ -66,7 +70,14 @@ public abstract class AbstractListListEntry<T, C extends AbstractListCell<T, C,
 	
 	@Override public void tick() {
 		updateValue(false);
-		multiCellErrors = multiCellErrorSupplier.apply(getValue());
+		// Multi-cell errors are memoized per value, like the error supplier
+		List<T> value = getValue();
+		long version = getScreen().getValidationVersion();
+		if (version != multiCellErrorsVersion || !Objects.equals(value, multiCellErrorsValue)) {
+			multiCellErrors = multiCellErrorSupplier.apply(value);
+			multiCellErrorsValue = value;
+			multiCellErrorsVersion = version;
+		}
 		super.tick();
 	}
 	
@@ -129,6 +140,7 @@ public abstract class AbstractListListEntry<T, C extends AbstractListCell<T, C,
 			super.onAdd();
 			//noinspection SuspiciousMethodCalls
 			index = listEntry.cells.indexOf(this);
+			invalidateErrors();
 			onAdd(index);
 		}
 		
@@ -138,6 +150,7 @@ public abstract class AbstractListListEntry<T, C extends AbstractListCell<T, C,
 			super.onMove();
 			//noinspection SuspiciousMethodCalls
 			index = listEntry.cells.indexOf(this);
+			invalidateErrors();
 			onMove(index);
 		}
 		
@@ -155,6 +168,14 @@ public abstract class AbstractListListEntry<T, C extends AbstractListCell<T, C,
 			lastSelectedSubTarget = target;
 		}
 		
+		/**
+		 * The cell error suppliers may depend on other entries, and the multi-cell
+		 * errors depend on the whole list
+		 */
+		@Override protected long getValidationVersion() {
+			return listEntry.getScreen().getValidationVersion();
+		}
+		
 		@Override protected List<EntryError> computeErrors() {
 			List<EntryError> errors = super.computeErrors();
 			List<Optional<Component>> multi = listEntry.multiCellErrors;
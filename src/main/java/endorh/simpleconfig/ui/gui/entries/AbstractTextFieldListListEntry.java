@@ -13,6 +13,7 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
 import java.util.List;
@@ -75,6 +76,10 @@ public abstract class AbstractTextFieldListListEntry<T, C extends AbstractTextFi
 			return widget.getValue();
 		}
 		
+		@Override protected @Nullable Object getValidationState() {
+			return widget.getValue();
+		}
+		
 		@Override public void renderCell(
          GuiGraphics gg, int index, int x, int y, int cellWidth, int cellHeight, int mouseX,
          int mouseY, boolean isSelected, float delta
@@ -16,6 +16,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Supplier;
@@ -32,6 +33,8 @@ public abstract class BaseListCell<T> extends AbstractContainerEventHandler
 	
 	private boolean isEdited = false;
 	private List<EntryError> errors = Collections.emptyList();
+	private @Nullable ValidationKey validationKey = null;
+	private boolean errorsDirty = true;
 	
 	protected ToggleAnimator offsetAnimator = new ToggleAnimator();
 	protected int lastListY = -1;
@@ -50,10 +53,40 @@ public abstract class BaseListCell<T> extends AbstractContainerEventHandler
 	}
 	
 	public void tick() {
-		errors = computeErrors();
+		ValidationKey key = new ValidationKey(getValue(), getValidationState(), getValidationVersion());
+		if (errorsDirty || !key.equals(validationKey)) {
+			errorsDirty = false;
+			validationKey = key;
+			errors = computeErrors();
+		}
 		isEdited = computeIsEdited();
 	}
 	
+	/**
+	 * Recompute the errors of this cell in the next tick.<br>
+	 * Errors are otherwise only recomputed when the value, the
+	 * {@link #getValidationState() validation state} or the
+	 * {@link #getValidationVersion() validation version} of the cell change.
+	 */
+	public void invalidateErrors() {
+		errorsDirty = true;
+	}
+	
+	/**
+	 * State other than the value that the {@link #getErrorMessage() error message}
+	 * depends on, such as the text of a text field
+	 */
+	protected @Nullable Object getValidationState() {
+		return null;
+	}
+	
+	/**
+	 * Version of the state outside this cell that its error supplier may depend on
+	 */
+	protected long getValidationVersion() {
+		return 0L;
+	}
+	
 	public List<EntryError> getErrors() {
 		return errors;
 	}
@@ -72,6 +105,7 @@ public abstract class BaseListCell<T> extends AbstractContainerEventHandler
 	
 	public void setErrorSupplier(Supplier<Optional<Component>> errorSupplier) {
 		this.errorSupplier = errorSupplier;
+		invalidateErrors();
 	}
 	
 	public abstract Optional<Component> getErrorMessage();
@@ -213,4 +247,6 @@ public abstract class BaseListCell<T> extends AbstractContainerEventHandler
 	public boolean areEqual(T left, T right) {
 		return Objects.equals(left, right);
 	}
+	
+	private record ValidationKey(@Nullable Object value, @Nullable Object state, long version) {}
 }
@@ -121,6 +121,7 @@ public abstract class BaseListEntry<T, C extends BaseListCell<T>, Self extends B
 				expandAnimator.setLength(min(250L, cells.size() * 25L));
 				expandAnimator.setEaseOutTarget(expanded);
 			} else expandAnimator.stopAndSet(expanded);
+			invalidateHeight(animate? expandAnimator.getLength() : 0L);
 			cells.forEach(expanded? BaseListCell::onShown : BaseListCell::onHidden);
 		}
 		this.expanded = expanded;
@@ -436,7 +437,11 @@ public abstract class BaseListEntry<T, C extends BaseListCell<T>, Self extends B
 	
 	@Override public void tick() {
 		updateValue(false);
-		cells.forEach(BaseListCell::tick);
+		for (C cell : cells) {
+			List<EntryError> errors = cell.getErrors();
+			cell.tick();
+			if (!EntryError.areEqual(errors, cell.getErrors())) invalidateErrors();
+		}
 		super.tick();
 		label.setFocused(
 		  !isHeadless() && isFocused() && getFocused() == labelReference && dragCursor == -1
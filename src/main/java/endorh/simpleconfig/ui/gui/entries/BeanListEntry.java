@@ -223,6 +223,7 @@ public class BeanListEntry<B> extends TooltipListEntry<B> implements IExpandable
 				expandAnimator.setLength(min(250L, entries.size() * 25L));
 				expandAnimator.setEaseOutTarget(expanded);
 			} else expandAnimator.stopAndSet(expanded);
+			invalidateHeight(animate? expandAnimator.getLength() : 0L);
 		}
 		this.expanded = expanded;
 		if (recurse) heldEntries.stream().filter(e -> e instanceof IExpandable)
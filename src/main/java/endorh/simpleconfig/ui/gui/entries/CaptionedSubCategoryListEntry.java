@@ -83,6 +83,7 @@ public class CaptionedSubCategoryListEntry<
 				expandAnimator.setLength(min(250L, entries.size() * 25L));
 				expandAnimator.setEaseOutTarget(expanded);
 			} else expandAnimator.stopAndSet(expanded);
+			invalidateHeight(animate? expandAnimator.getLength() : 0L);
 		}
 		this.expanded = expanded;
 		if (recursive) entries.stream().filter(e -> e instanceof IExpandable)
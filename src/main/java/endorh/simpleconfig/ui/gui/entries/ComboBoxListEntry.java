@@ -103,6 +103,10 @@ public class ComboBoxListEntry<T> extends TooltipListEntry<T> implements IChildL
 		return comboBox.getError();
 	}
 	
+	@Override protected @Nullable Object getValidationState() {
+		return comboBox.getText();
+	}
+	
 	@Override public T getDisplayedValue() {
 		return comboBox.getValue();
 	}
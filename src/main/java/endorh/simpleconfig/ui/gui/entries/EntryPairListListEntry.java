@@ -170,6 +170,13 @@ public class EntryPairListListEntry<
 			return Pair.of(keyEntry.getDisplayedValue(), valueEntry.getDisplayedValue());
 		}
 		
+		/**
+		 * The key and value entries are ticked first, so their errors are up to date
+		 */
+		@Override protected @Nullable Object getValidationState() {
+			return Pair.of(keyEntry.getErrors(), valueEntry.getErrors());
+		}
+		
 		@Override public Rectangle getSelectionArea() {
 			return valueEntry.getSelectionArea();
 		}
@@ -129,6 +129,13 @@ public class NestedListListEntry<T, Inner extends AbstractConfigListEntry<T>>
 			return nestedEntry.getDisplayedValue();
 		}
 		
+		/**
+		 * The nested entry is ticked first, so its errors are up to date
+		 */
+		@Override protected @Nullable Object getValidationState() {
+			return nestedEntry.getErrors();
+		}
+		
 		@Override protected List<EntryError> computeErrors() {
 			List<EntryError> errors = super.computeErrors();
 			errors.addAll(
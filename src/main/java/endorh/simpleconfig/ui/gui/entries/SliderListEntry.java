@@ -190,6 +190,10 @@ public abstract class SliderListEntry<V extends Comparable<V>>
 		return super.getErrorMessage();
 	}
 	
+	@Override protected @Nullable Object getValidationState() {
+		return isTextFieldShown()? textFieldEntry.getText() : null;
+	}
+	
 	@Override protected @NotNull List<? extends GuiEventListener> getEntryListeners() {
 		return isTextFieldShown()? isChildSubEntry() ? textChildWidgets : textWidgets
 		                         : isChildSubEntry() ? childWidgets : widgets;
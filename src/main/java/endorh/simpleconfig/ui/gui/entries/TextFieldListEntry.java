@@ -161,6 +161,7 @@ public abstract class TextFieldListEntry<V> extends TooltipListEntry<V> implemen
 		if (!isExpandable()) expanded = false;
 		if (this.expanded != expanded) {
 			expandAnimator.setEaseOutTarget(expanded);
+			invalidateHeight(expandAnimator.getLength());
 			this.expanded = expanded;
 			if (isEditable()) setFocused(textFieldWidget);
 		}
@@ -198,6 +199,10 @@ public abstract class TextFieldListEntry<V> extends TooltipListEntry<V> implemen
 		return Optional.empty();
 	}
 	
+	@Override protected @Nullable Object getValidationState() {
+		return getText();
+	}
+	
 	@Override protected @NotNull List<? extends GuiEventListener> getEntryListeners() {
 		return isChildSubEntry() ? childWidgets : widgets;
 	}
@@ -24,6 +24,7 @@ import net.minecraft.util.FormattedCharSequence;
 import net.minecraft.util.Mth;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -41,6 +42,8 @@ public abstract class TooltipListEntry<T> extends AbstractConfigListEntry<T> {
 	protected EntryTag errorEntryFlag;
 	protected MultiFunctionImageButton matchedHelpButton;
 	private @Nullable Component[] lastTooltip = null;
+	private @Nullable String searchableTooltipText = null;
+	private long searchableTooltipVersion = -1L;
 	
 	protected TooltipListEntry(Component fieldName) {
 		super(fieldName);
@@ -227,7 +230,7 @@ public abstract class TooltipListEntry<T> extends AbstractConfigListEntry<T> {
 		boolean matches = false;
 		matchedTooltipText = null;
 		if (searchBar instanceof TooltipSearchBarWidget && ((TooltipSearchBarWidget) searchBar).isSearchTooltips()) {
-			final String tooltipText = seekableTooltipString();
+			final String tooltipText = getSearchableTooltipText();
 			if (!tooltipText.isEmpty()) {
 				final Matcher m = query.matcher(tooltipText);
 				while (m.find()) {
@@ -242,6 +245,19 @@ public abstract class TooltipListEntry<T> extends AbstractConfigListEntry<T> {
 		return super.searchSelf(query) || matches;
 	}
 	
+	/**
+	 * Cached {@link #seekableTooltipString()}, only rebuilt when the value of
+	 * any entry in the screen changes, since tooltips may depend on them
+	 */
+	@Internal public String getSearchableTooltipText() {
+		long version = getScreen().getValidationVersion();
+		if (searchableTooltipText == null || searchableTooltipVersion != version) {
+			searchableTooltipText = seekableTooltipString();
+			searchableTooltipVersion = version;
+		}
+		return searchableTooltipText;
+	}
+	
 	protected String seekableTooltipString() {
 		if (isChildSubEntry()) return "";
 		return getTooltip().map(t -> Arrays.stream(t).map(
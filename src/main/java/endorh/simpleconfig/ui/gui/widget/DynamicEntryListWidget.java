@@ -16,6 +16,7 @@ import endorh.simpleconfig.ui.api.INavigableTarget;
 import endorh.simpleconfig.ui.api.ScissorsHandler;
 import endorh.simpleconfig.ui.gui.widget.DynamicEntryListWidget.ListEntry;
 import endorh.simpleconfig.ui.impl.ISeekableComponent;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
@@ -42,6 +43,7 @@ import org.lwjgl.glfw.GLFW;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -84,6 +86,15 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 	protected ISeekableComponent focusedMatch = null;
 	protected List<ISeekableComponent> matchingEntries = null;
 	
+	private static final int HEIGHT_CHECKS_PER_FRAME = 64;
+	private final HeightIndex heightIndex = new HeightIndex();
+	private final BitSet extraScrollItems = new BitSet();
+	private boolean heightsDirty = true;
+	private long heightsAnimatedUntil = 0L;
+	private int heightCheckCursor = 0;
+	private int renderedFirst = 0;
+	private int renderedLast = 0;
+	
 	public DynamicEntryListWidget(
 	  Minecraft client, int width, int height, int top, int bottom,
 	  ResourceLocation backgroundLocation
@@ -208,14 +219,7 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 		int currentY =
 		  Mth.floor(mouseY - (double) top) - headerHeight + (int) getScroll() -
 		  4;
-		int itemY = 0;
-		int itemIndex = -1;
-		for (int i = 0; i < entries.size(); ++i) {
-			E item = getItem(i);
-			if ((itemY += item.getItemHeight()) <= currentY) continue;
-			itemIndex = i;
-			break;
-		}
+		int itemIndex = currentY >= 0? getHeightIndex().find(currentY) : -1;
 		return mouseX < (double) getScrollBarPosition() && mouseX >= (double) minX &&
 		       mouseX <= (double) maxX && itemIndex >= 0 && currentY >= 0 &&
 		       itemIndex < getItemCount() ? children().get(itemIndex) : null;
@@ -236,17 +240,74 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 	}
 	
 	protected int getMaxScrollPosition() {
-		List<Integer> list = new ArrayList<>();
-		int i = headerHeight;
-		for (E entry : entries) {
-			if (entry.isShown()) {
-				i += entry.getItemHeight();
-				if (entry.getExtraScrollHeight() < 0) continue;
-				list.add(i + entry.getExtraScrollHeight());
+		HeightIndex index = getHeightIndex();
+		int max = headerHeight + index.total();
+		for (int i = extraScrollItems.nextSetBit(0); i >= 0; i = extraScrollItems.nextSetBit(i + 1)) {
+			int extra = entries.get(i).getExtraScrollHeight();
+			if (extra >= 0) max = max(max, headerHeight + index.prefix(i + 1) + extra);
+		}
+		return max + min(bottom - top, extraScroll);
+	}
+	
+	/**
+	 * Prefix sums of the heights of the shown items.<br>
+	 * All items are only checked after {@link #invalidateItemHeights()}.
+	 * Otherwise, {@link #updateItemHeights()} checks a few of them each frame.
+	 */
+	protected HeightIndex getHeightIndex() {
+		if (heightsDirty) {
+			heightsDirty = false;
+			int size = entries.size();
+			if (heightIndex.size() != size) {
+				heightIndex.reset(size);
+				extraScrollItems.clear();
 			}
+			for (int i = 0; i < size; i++) checkItemHeight(i);
 		}
-		list.add(i);
-		return list.stream().max(Integer::compare).orElse(0) + min(bottom - top, extraScroll);
+		return heightIndex;
+	}
+	
+	private void checkItemHeight(int index) {
+		E item = entries.get(index);
+		boolean shown = item.isShown();
+		heightIndex.set(index, shown? item.getItemHeight() : 0);
+		extraScrollItems.set(index, shown && item.getExtraScrollHeight() >= 0);
+	}
+	
+	/**
+	 * Check the heights of the items rendered this frame, and a few of the rest,
+	 * in turns, so changes not reported by the items are eventually noticed.
+	 */
+	protected void updateItemHeights() {
+		if (Util.getMillis() < heightsAnimatedUntil) heightsDirty = true;
+		int size = entries.size();
+		if (heightsDirty || heightIndex.size() != size) {
+			heightsDirty = true;
+			return;
+		}
+		for (int i = renderedFirst; i < renderedLast && i < size; i++)
+			checkItemHeight(i);
+		for (int n = min(size, HEIGHT_CHECKS_PER_FRAME); n > 0; n--) {
+			if (heightCheckCursor >= size) heightCheckCursor = 0;
+			checkItemHeight(heightCheckCursor++);
+		}
+	}
+	
+	/**
+	 * Check the heights of all items the next time they're needed.<br>
+	 * Should be called when items are shown, hidden, expanded or collapsed.
+	 */
+	public void invalidateItemHeights() {
+		heightsDirty = true;
+	}
+	
+	/**
+	 * Check the heights of all items every frame for the duration of an animation
+	 * @param animationLength Length of the animation, in milliseconds
+	 */
+	public void invalidateItemHeights(long animationLength) {
+		heightsDirty = true;
+		heightsAnimatedUntil = max(heightsAnimatedUntil, Util.getMillis() + animationLength);
 	}
 	
 	public int getExtraScroll() {
@@ -344,6 +405,7 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 		renderDecorations(gg, mouseX, mouseY);
 
 		RenderSystem.disableBlend();
+		updateItemHeights();
 	}
 	
 	protected void renderScrollBar(
@@ -594,22 +656,48 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 	protected void renderList(
 		GuiGraphics gg, int startX, int startY, int mouseX, int mouseY, float delta
 	) {
+		HeightIndex index = getHeightIndex();
+		renderedFirst = renderedLast = 0;
+		if (index.total() == 0) {
+			renderEmptyPlaceHolder(gg, mouseX, mouseY, delta);
+			return;
+		}
 		int itemCount = getItemCount();
-		int yy = startY + headerHeight;
-		for (int renderIndex = 0; renderIndex < itemCount; ++renderIndex) {
-			E item = getItem(renderIndex);
-			if (item.isShown()) {
-				int itemHeight = item.getItemHeight();
-				int itemWidth = getItemWidth();
-				int x = getRowLeft();
-				renderItem(
-				  gg, item, renderIndex, x, yy, itemWidth, itemHeight, mouseX, mouseY,
-				  isMouseOver(mouseX, mouseY) && item.isMouseOver(mouseX, mouseY), delta);
-				yy += item.getItemHeight();
-			}
+		int y = startY + headerHeight;
+		// Only render the items within the viewport
+		int first = index.find(max(0, top - y));
+		int last = first;
+		for (int yy = y + index.prefix(first); last < itemCount && yy < bottom; last++) {
+			renderItemAt(gg, last, y, mouseX, mouseY, delta);
+			yy += index.height(last);
+		}
+		renderedFirst = first;
+		renderedLast = last;
+		// Entries being scrolled to must know their position
+		ListEntry pinned = getPinnedEntry();
+		if (pinned != null) {
+			//noinspection SuspiciousMethodCalls
+			int pinnedIndex = entries.indexOf(pinned);
+			if (pinnedIndex >= 0 && (pinnedIndex < first || pinnedIndex >= last))
+				renderItemAt(gg, pinnedIndex, y, mouseX, mouseY, delta);
 		}
-		if (yy == startY + headerHeight)
-			renderEmptyPlaceHolder(gg, mouseX, mouseY, delta);
+	}
+	
+	private void renderItemAt(GuiGraphics gg, int index, int startY, int mouseX, int mouseY, float delta) {
+		E item = getItem(index);
+		if (!item.isShown()) return;
+		renderItem(
+		  gg, item, index, getRowLeft(), startY + heightIndex.prefix(index), getItemWidth(),
+		  heightIndex.height(index), mouseX, mouseY,
+		  isMouseOver(mouseX, mouseY) && item.isMouseOver(mouseX, mouseY), delta);
+	}
+	
+	/**
+	 * Item which must be rendered even if it's outside the viewport,
+	 * because its position is about to be read
+	 */
+	protected @Nullable ListEntry getPinnedEntry() {
+		return null;
 	}
 	
 	protected MutableComponent getEmptyPlaceHolder() {
@@ -634,21 +722,18 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 	}
 	
 	protected int getRowTop(int index) {
-		int y = top + 4 - (int) getScroll() + headerHeight;
-		for (int i = 0; i < entries.size() && i < index; ++i)
-			if (entries.get(i).isShown()) y += entries.get(i).getItemHeight();
-		return y;
+		HeightIndex heights = getHeightIndex();
+		return top + 4 - (int) getScroll() + headerHeight + heights.prefix(min(index, heights.size()));
 	}
 	
 	public int getFocusedScroll() {
 		int y = headerHeight;
 		GuiEventListener focused = getFocusedItem();
-		List<? extends ListEntry> entries = this.entries;
+		//noinspection SuspiciousMethodCalls
 		final int index = entries.indexOf(focused);
 		if (index < 0)
 			return y;
-		for (ListEntry entry : entries.subList(0, index))
-			y += entry.getItemHeight();
+		y += getHeightIndex().prefix(index);
 		if (focused instanceof IExpandable)
 			y += ((IExpandable) focused).getFocusedScroll();
 		return y;
@@ -735,6 +820,7 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 		
 		@Override public void clear() {
 			items.clear();
+			invalidateItemHeights();
 		}
 		
 		@Override public E get(int index) {
@@ -748,19 +834,84 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 		@Override public E set(int index, E entry) {
 			E item = items.set(index, entry);
 			entry.setEntryList(DynamicEntryListWidget.this);
+			invalidateItemHeights();
 			return item;
 		}
 		
 		@Override public void add(int index, E entry) {
 			items.add(index, entry);
 			entry.setEntryList(DynamicEntryListWidget.this);
+			invalidateItemHeights();
 		}
 		
 		@Override public E remove(int int_1) {
+			invalidateItemHeights();
 			return items.remove(int_1);
 		}
 	}
 	
+	/**
+	 * Fenwick tree over the heights of the items of the list, used to find
+	 * the items within the viewport and their positions in logarithmic time.
+	 */
+	@OnlyIn(value = Dist.CLIENT)
+	protected static final class HeightIndex {
+		private int[] heights = new int[0];
+		private int[] tree = new int[1];
+		
+		void reset(int size) {
+			heights = new int[size];
+			tree = new int[size + 1];
+		}
+		
+		public int size() {
+			return heights.length;
+		}
+		
+		public int height(int index) {
+			return heights[index];
+		}
+		
+		void set(int index, int height) {
+			int diff = height - heights[index];
+			if (diff == 0) return;
+			heights[index] = height;
+			for (int i = index + 1; i < tree.length; i += i & -i)
+				tree[i] += diff;
+		}
+		
+		/**
+		 * Sum of the heights of the items before {@code index}
+		 */
+		public int prefix(int index) {
+			int sum = 0;
+			for (int i = index; i > 0; i -= i & -i)
+				sum += tree[i];
+			return sum;
+		}
+		
+		public int total() {
+			return prefix(heights.length);
+		}
+		
+		/**
+		 * Index of the item containing the given offset from the start of the list,
+		 * or {@link #size()} if it's past the end of the list.<br>
+		 * Items with no height are never returned.
+		 */
+		public int find(int offset) {
+			int index = 0;
+			for (int step = Integer.highestOneBit(heights.length); step > 0; step >>= 1) {
+				int next = index + step;
+				if (next < tree.length && tree[next] <= offset) {
+					index = next;
+					offset -= tree[next];
+				}
+			}
+			return index;
+		}
+	}
+	
 	@OnlyIn(value = Dist.CLIENT)
 	public static abstract class ListEntry implements ISeekableComponent, INavigableTarget {
 		private @Nullable DynamicEntryListWidget<?> entryList = null;
@@ -789,6 +940,13 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 		
 		protected abstract void expandParents();
 		
+		/**
+		 * Top level entry of the list containing this entry
+		 */
+		public ListEntry getRootEntry() {
+			return this;
+		}
+		
 		protected abstract void claimFocus();
 		
 		public abstract int getItemHeight();
@@ -815,6 +973,8 @@ public abstract class DynamicEntryListWidget<E extends ListEntry>
 	// Search
 	
 	public Pair<Integer, Integer> search(Pattern query) {
+		// Items may be filtered by the query
+		invalidateItemHeights();
 		if (focusedMatch != null)
 			focusedMatch.setFocusedMatch(false);
 		matchingEntries =
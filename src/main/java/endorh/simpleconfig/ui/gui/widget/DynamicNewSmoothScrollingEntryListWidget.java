@@ -222,6 +222,10 @@ public abstract class DynamicNewSmoothScrollingEntryListWidget<E extends ListEnt
 		return scrollFor(e.getScrollY(), e.getCaptionHeight());
 	}
 	
+	@Override protected @Nullable ListEntry getPinnedEntry() {
+		return scrollTargetEntry != null? scrollTargetEntry.getRootEntry() : null;
+	}
+	
 	@Override
 	public void render(@NotNull GuiGraphics gg, int mouseX, int mouseY, float delta) {
 		long time = System.currentTimeMillis();
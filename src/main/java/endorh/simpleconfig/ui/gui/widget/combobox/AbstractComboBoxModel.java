@@ -7,16 +7,19 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Style;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.lang3.tuple.Triple;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.IntFunction;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static endorh.simpleconfig.api.SimpleConfigTextUtil.subText;
 import static java.lang.Math.min;
 
 public abstract class AbstractComboBoxModel<T> implements IComboBoxModel<T> {
+	private @Nullable SuggestionIndex<T> suggestionIndex = null;
+	
 	/**
 	 * Splits word parts
 	 */
@@ -30,8 +33,13 @@ public abstract class AbstractComboBoxModel<T> implements IComboBoxModel<T> {
 		target = target.trim();
 		if (query.length() > target.length())
 			return Collections.emptyList();
-		final String[] q = TOKEN_SPLITTER.split(query);
-		final String[] t = TOKEN_SPLITTER.split(target);
+		return tokenMatches(TOKEN_SPLITTER.split(target), TOKEN_SPLITTER.split(query));
+	}
+	
+	/**
+	 * Matches at word part starts, for already split target and query
+	 */
+	protected static List<String> tokenMatches(String[] t, String[] q) {
 		if (t.length == 0)
 			return Collections.emptyList();
 		List<String> result = Lists.newArrayList();
@@ -64,78 +72,105 @@ public abstract class AbstractComboBoxModel<T> implements IComboBoxModel<T> {
 		return result;
 	}
 	
+	/**
+	 * Index of the last suggestions, reused while the suggestions list doesn't change
+	 */
+	protected SuggestionIndex<T> getSuggestionIndex(TypeWrapper<T> typeWrapper, List<T> suggestions) {
+		SuggestionIndex<T> index = suggestionIndex;
+		if (index == null || !index.isFor(typeWrapper, suggestions))
+			suggestionIndex = index = new SuggestionIndex<>(typeWrapper, suggestions);
+		return index;
+	}
+	
+	/**
+	 * Suggestions are ranked lazily, and only decorated when requested,
+	 * which the {@link ComboBoxWidget} only does for visible rows
+	 */
 	@Override public Pair<List<T>, List<Component>> pickAndDecorateSuggestions(
 	  TypeWrapper<T> typeWrapper, String query, List<T> suggestions
 	) {
 		if (query.isEmpty())
-			return Pair.of(suggestions, suggestions.stream()
-			  .map(typeWrapper::getDisplayName).collect(Collectors.toList()));
+			return Pair.of(suggestions, new LazyComponentList(
+			  suggestions.size(), i -> typeWrapper.getDisplayName(suggestions.get(i))));
 		if (suggestions.isEmpty()) return Pair.of(suggestions, new ArrayList<>());
-		Set<T> set = new LinkedHashSet<>();
-		List<Component> names = new ArrayList<>();
-		suggestions.stream()
-		  .map(e -> {
-			  final String n = typeWrapper.getName(e);
-			  return Triple.of(e, n, tokenMatches(n, query));
-		  }).filter(t -> !t.getRight().isEmpty())
-		  .sorted(Comparator.<Triple<T, String, List<String>>>comparingInt(
-			 t -> t.getRight().stream().mapToInt(String::length).reduce(0, (a, b) -> a * b)
-		  ).thenComparingInt(t -> t.getMiddle().length()))
-		  .forEachOrdered(t -> {
-			  final T value = t.getLeft();
-			  if (set.add(value)) {
-				  final String name = t.getMiddle();
-				  String n = name;
-				  final String[] sp = TOKEN_SPLITTER.split(name);
-				  final List<String> matches = t.getRight();
-				  int i = 0, o = 0;
-				  MutableComponent stc = Component.literal("");
-				  for (final String frag : sp) {
-					  if (i >= matches.size()) break;
-					  final int s = n.indexOf(frag);
-					  if (s > 0) {
-						  stc = stc.append(getNonMatch(typeWrapper, value, name, o, n.substring(0, s)));
-						  o += s;
-						  n = n.substring(s);
-					  }
-					  final String tar = matches.get(i);
-					  final int j = frag.indexOf(tar);
-					  if (j == -1) {
-						  stc = stc.append(getNonMatch(typeWrapper, value, name, o, frag));
-					  } else {
-						  stc = stc.append(getNonMatch(typeWrapper, value, name, o, frag.substring(0, j)))
-							 .append(getMatch(typeWrapper, value, name, o, frag, o + j, tar))
-							 .append(getNonMatch(typeWrapper, value, name, o + j + tar.length(),
-							                     frag.substring(j + tar.length())));
-						  i++;
-					  }
-					  o += frag.length();
-					  n = n.substring(frag.length());
-				  }
-				  stc = stc.append(getNonMatch(typeWrapper, value, name, o, n));
-				  names.add(stc);
+		SuggestionIndex<T> index = getSuggestionIndex(typeWrapper, suggestions);
+		List<RankedMatch> matches = new ArrayList<>();
+		BitSet tokenCandidates = index.getTokenCandidates(query);
+		BitSet matched = new BitSet(index.size());
+		for (int i = tokenCandidates.nextSetBit(0); i >= 0; i = tokenCandidates.nextSetBit(i + 1)) {
+			List<String> m = index.tokenMatches(i, query);
+			if (m.isEmpty()) continue;
+			String name = index.getName(i);
+			matches.add(new RankedMatch(
+			  i, 0, m.stream().mapToInt(String::length).reduce(0, (a, b) -> a * b),
+			  name.length(), 0, name, m));
+			matched.set(i);
+		}
+		BitSet substringCandidates = index.getSubstringCandidates(query);
+		substringCandidates.andNot(matched);
+		for (int i = substringCandidates.nextSetBit(0); i >= 0; i = substringCandidates.nextSetBit(i + 1)) {
+			String name = index.getName(i);
+			int pos = name.indexOf(query);
+			if (pos >= 0) matches.add(new RankedMatch(i, 1, 0, name.length(), pos, name, null));
+		}
+		RankedMatches ranked = new RankedMatches(matches);
+		return Pair.of(
+		  new AbstractList<>() {
+			  @Override public T get(int i) {
+				  return index.get(ranked.get(i).index());
 			  }
-		  });
-		suggestions.stream()
-		  .filter(e -> !set.contains(e))
-		  .map(e -> Pair.of(e, typeWrapper.getName(e)))
-		  .filter(p -> p.getRight().contains(query))
-		  .sorted(Comparator
-			         .<Pair<T, String>>comparingInt(p -> p.getRight().length())
-			         .thenComparingInt(p -> p.getRight().indexOf(query))
-			         .thenComparing(Pair::getRight))
-		  .forEachOrdered(p -> {
-			  final T value = p.getKey();
-			  if (set.add(value)) {
-				  final String name = p.getRight();
-				  final int i = name.indexOf(query);
-				  names.add(getNonMatch(typeWrapper, value, name, 0, name.substring(0, i)).copy()
-					           .append(getMatch(typeWrapper, value, name, 0, name, i, query))
-					           .append(getNonMatch(typeWrapper, value, name, i + query.length(),
-					                               name.substring(i + query.length()))));
+			  
+			  @Override public int size() {
+				  return ranked.size();
 			  }
-		  });
-		return Pair.of(new ArrayList<>(set), names);
+		  }, new LazyComponentList(ranked.size(), i -> {
+			  RankedMatch m = ranked.get(i);
+			  T value = index.get(m.index());
+			  return m.tokenMatches() != null
+			         ? decorateTokenMatch(typeWrapper, value, m.name(), m.tokenMatches())
+			         : decorateMatch(typeWrapper, value, m.name(), m.position(), query);
+		  }));
+	}
+	
+	protected Component decorateTokenMatch(
+	  TypeWrapper<T> typeWrapper, T value, String name, List<String> matches
+	) {
+		String n = name;
+		final String[] sp = TOKEN_SPLITTER.split(name);
+		int i = 0, o = 0;
+		MutableComponent stc = Component.literal("");
+		for (final String frag : sp) {
+			if (i >= matches.size()) break;
+			final int s = n.indexOf(frag);
+			if (s > 0) {
+				stc = stc.append(getNonMatch(typeWrapper, value, name, o, n.substring(0, s)));
+				o += s;
+				n = n.substring(s);
+			}
+			final String tar = matches.get(i);
+			final int j = frag.indexOf(tar);
+			if (j == -1) {
+				stc = stc.append(getNonMatch(typeWrapper, value, name, o, frag));
+			} else {
+				stc = stc.append(getNonMatch(typeWrapper, value, name, o, frag.substring(0, j)))
+				  .append(getMatch(typeWrapper, value, name, o, frag, o + j, tar))
+				  .append(getNonMatch(typeWrapper, value, name, o + j + tar.length(),
+				                      frag.substring(j + tar.length())));
+				i++;
+			}
+			o += frag.length();
+			n = n.substring(frag.length());
+		}
+		return stc.append(getNonMatch(typeWrapper, value, name, o, n));
+	}
+	
+	protected Component decorateMatch(
+	  TypeWrapper<T> typeWrapper, T value, String name, int i, String query
+	) {
+		return getNonMatch(typeWrapper, value, name, 0, name.substring(0, i)).copy()
+		  .append(getMatch(typeWrapper, value, name, 0, name, i, query))
+		  .append(getNonMatch(typeWrapper, value, name, i + query.length(),
+		                      name.substring(i + query.length())));
 	}
 	
 	protected Style getMatchStyle() {
@@ -157,4 +192,76 @@ public abstract class AbstractComboBoxModel<T> implements IComboBoxModel<T> {
 			return Component.literal(fragment);
 		return subText(title, fragmentPos, fragmentPos + fragment.length());
 	}
+	
+	/**
+	 * Match of a suggestion, ranked first by token matches, then by substring matches
+	 * @param tokenMatches Token matches, or {@code null} for substring matches
+	 */
+	protected record RankedMatch(
+	  int index, int group, int score, int length, int position, String name,
+	  @Nullable List<String> tokenMatches
+	) implements Comparable<RankedMatch> {
+		@Override public int compareTo(@NotNull RankedMatch o) {
+			int c = Integer.compare(group, o.group);
+			if (c != 0) return c;
+			if (group == 0) {
+				c = Integer.compare(score, o.score);
+				if (c == 0) c = Integer.compare(length, o.length);
+			} else {
+				c = Integer.compare(length, o.length);
+				if (c == 0) c = Integer.compare(position, o.position);
+				if (c == 0) c = name.compareTo(o.name);
+			}
+			return c != 0? c : Integer.compare(index, o.index);
+		}
+	}
+	
+	/**
+	 * Matches sorted lazily, as a heap from which only the requested
+	 * top matches are extracted
+	 */
+	protected static class RankedMatches {
+		private final PriorityQueue<RankedMatch> queue;
+		private final List<RankedMatch> sorted;
+		private final int size;
+		
+		public RankedMatches(Collection<RankedMatch> matches) {
+			queue = new PriorityQueue<>(matches);
+			size = matches.size();
+			sorted = new ArrayList<>(min(size, 64));
+		}
+		
+		public RankedMatch get(int i) {
+			if (i < 0 || i >= size) throw new IndexOutOfBoundsException(i);
+			while (sorted.size() <= i) sorted.add(queue.poll());
+			return sorted.get(i);
+		}
+		
+		public int size() {
+			return size;
+		}
+	}
+	
+	/**
+	 * List of components created on first access
+	 */
+	protected static class LazyComponentList extends AbstractList<Component> {
+		private final Component[] components;
+		private final IntFunction<Component> factory;
+		
+		public LazyComponentList(int size, IntFunction<Component> factory) {
+			components = new Component[size];
+			this.factory = factory;
+		}
+		
+		@Override public Component get(int i) {
+			Component c = components[i];
+			if (c == null) components[i] = c = factory.apply(i);
+			return c;
+		}
+		
+		@Override public int size() {
+			return components.length;
+		}
+	}
 }
@@ -0,0 +1,122 @@
+package endorh.simpleconfig.ui.gui.widget.combobox;
+
+import endorh.simpleconfig.ui.gui.widget.combobox.wrapper.TypeWrapper;
+import it.unimi.dsi.fastutil.chars.Char2ObjectMap;
+import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Prebuilt index of the names of a list of suggestions, used by
+ * {@link AbstractComboBoxModel} to avoid testing every suggestion
+ * on each query.<br>
+ * Suggestions are indexed by the initial of each word part of their
+ * names, for {@link AbstractComboBoxModel#tokenMatches} lookups,
+ * and by the trigrams of their names, for substring lookups.<br>
+ * Duplicate suggestions are only indexed once.
+ */
+public final class SuggestionIndex<T> {
+	private final TypeWrapper<T> typeWrapper;
+	private final List<T> source;
+	private final List<T> values = new ArrayList<>();
+	private final List<String> names = new ArrayList<>();
+	private final List<String[]> tokens = new ArrayList<>();
+	private final Char2ObjectMap<BitSet> initials = new Char2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<BitSet> trigrams = new Long2ObjectOpenHashMap<>();
+	
+	public SuggestionIndex(TypeWrapper<T> typeWrapper, List<T> suggestions) {
+		this.typeWrapper = typeWrapper;
+		source = suggestions;
+		Set<T> seen = new HashSet<>();
+		for (T suggestion : suggestions) {
+			if (!seen.add(suggestion)) continue;
+			int i = values.size();
+			String name = typeWrapper.getName(suggestion);
+			String[] t = AbstractComboBoxModel.TOKEN_SPLITTER.split(name.trim());
+			values.add(suggestion);
+			names.add(name);
+			tokens.add(t);
+			for (String token : t) if (!token.isEmpty())
+				initials.computeIfAbsent(Character.toLowerCase(token.charAt(0)), c -> new BitSet()).set(i);
+			for (int j = 0; j + 3 <= name.length(); j++)
+				trigrams.computeIfAbsent(trigram(name, j), k -> new BitSet()).set(i);
+		}
+	}
+	
+	private static long trigram(String s, int i) {
+		return (long) s.charAt(i) << 32 | (long) s.charAt(i + 1) << 16 | s.charAt(i + 2);
+	}
+	
+	/**
+	 * Whether this index was built for the given suggestions list instance
+	 */
+	public boolean isFor(TypeWrapper<T> typeWrapper, List<T> suggestions) {
+		return this.typeWrapper == typeWrapper && source == suggestions;
+	}
+	
+	public int size() {
+		return values.size();
+	}
+	
+	public T get(int i) {
+		return values.get(i);
+	}
+	
+	public String getName(int i) {
+		return names.get(i);
+	}
+	
+	/**
+	 * {@link AbstractComboBoxModel#tokenMatches(String, String)} for an indexed suggestion
+	 */
+	public List<String> tokenMatches(int i, String query) {
+		String q = query.trim();
+		if (q.length() > names.get(i).trim().length())
+			return Collections.emptyList();
+		return AbstractComboBoxModel.tokenMatches(
+		  tokens.get(i), AbstractComboBoxModel.TOKEN_SPLITTER.split(q));
+	}
+	
+	/**
+	 * Suggestions that may have {@link AbstractComboBoxModel#tokenMatches token matches}
+	 * for a query, since every word part of the query must start a word part of their names
+	 */
+	public BitSet getTokenCandidates(String query) {
+		BitSet candidates = null;
+		for (String qq : AbstractComboBoxModel.TOKEN_SPLITTER.split(query.trim())) {
+			if (qq.isEmpty()) continue;
+			BitSet set = initials.get(qq.toLowerCase().charAt(0));
+			if (set == null) return new BitSet();
+			candidates = intersect(candidates, set);
+		}
+		return candidates != null? candidates : new BitSet();
+	}
+	
+	/**
+	 * Suggestions whose names may contain a query, since they contain all of its trigrams
+	 */
+	public BitSet getSubstringCandidates(@NotNull String query) {
+		if (query.length() < 3) {
+			BitSet all = new BitSet(size());
+			all.set(0, size());
+			return all;
+		}
+		BitSet candidates = null;
+		for (int j = 0; j + 3 <= query.length(); j++) {
+			BitSet set = trigrams.get(trigram(query, j));
+			if (set == null) return new BitSet();
+			candidates = intersect(candidates, set);
+		}
+		return candidates;
+	}
+	
+	private static BitSet intersect(@Nullable BitSet candidates, BitSet set) {
+		if (candidates == null) return (BitSet) set.clone();
+		candidates.and(set);
+		return candidates;
+	}
+}
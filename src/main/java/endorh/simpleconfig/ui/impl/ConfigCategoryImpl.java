@@ -5,6 +5,7 @@ import endorh.simpleconfig.api.ui.icon.Icon;
 import endorh.simpleconfig.ui.api.AbstractConfigField;
 import endorh.simpleconfig.ui.api.AbstractConfigListEntry;
 import endorh.simpleconfig.ui.api.ConfigCategory;
+import endorh.simpleconfig.ui.api.EntryError;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraftforge.api.distmarker.Dist;
@@ -13,15 +14,21 @@ import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 @OnlyIn(value = Dist.CLIENT)
 public class ConfigCategoryImpl implements ConfigCategory {
-	protected final List<AbstractConfigField<?>> entries;
+	protected @Nullable List<AbstractConfigField<?>> entries = null;
+	private @Nullable Supplier<List<AbstractConfigField<?>>> entryFactory;
+	private final List<Consumer<ConfigCategory>> buildListeners = new ArrayList<>();
 	protected final String name;
 	protected Component title;
 	protected int sortingOrder;
@@ -36,13 +43,13 @@ public class ConfigCategoryImpl implements ConfigCategory {
 	private boolean loaded;
 	
 	@Internal public ConfigCategoryImpl(
-	  String name, EditType type, List<AbstractConfigField<?>> entries,
+	  String name, EditType type, Supplier<List<AbstractConfigField<?>>> entryFactory,
 	  Component title, int sortingOrder, @Nullable ResourceLocation background,
 	  @Nullable Supplier<Optional<Component[]>> description, @Nullable Path containingFile,
 	  boolean isEditable, Icon icon, int color,
 	  @Nullable CompletableFuture<Function<ConfigCategory, Boolean>> loadingFuture
 	) {
-		this.entries = entries;
+		this.entryFactory = entryFactory;
 		this.name = name;
 		this.title = title;
 		this.type = type;
@@ -73,20 +80,46 @@ public class ConfigCategoryImpl implements ConfigCategory {
 	}
 	
 	@Override public List<AbstractConfigField<?>> getHeldEntries() {
+		List<AbstractConfigField<?>> entries = this.entries;
+		if (entries == null) {
+			assert entryFactory != null;
+			this.entries = entries = entryFactory.get();
+			entryFactory = null;
+			buildListeners.forEach(l -> l.accept(this));
+			buildListeners.clear();
+		}
 		return entries;
 	}
 	
+	@Override public boolean isBuilt() {
+		return entries != null;
+	}
+	
+	@Override @Internal public void onBuilt(Consumer<ConfigCategory> listener) {
+		if (isBuilt()) {
+			listener.accept(this);
+		} else buildListeners.add(listener);
+	}
+	
+	@Override public List<AbstractConfigField<?>> getAllEntries(Predicate<AbstractConfigField<?>> filter) {
+		return isBuilt()? ConfigCategory.super.getAllEntries(filter) : Collections.emptyList();
+	}
+	
+	@Override public List<EntryError> getErrors() {
+		return isBuilt()? ConfigCategory.super.getErrors() : Collections.emptyList();
+	}
+	
 	@Override public String getName() {
 		return name;
 	}
 	
 	@Override public ConfigCategory addEntry(AbstractConfigListEntry<?> entry) {
-		entries.add(entry);
+		getHeldEntries().add(entry);
 		return this;
 	}
 	
 	@Override @Internal public void removeEntry(String name) {
-		entries.removeIf(e -> e.getName().equals(name));
+		getHeldEntries().removeIf(e -> e.getName().equals(name));
 	}
 	
 	@Override public Optional<Path> getContainingFile() {
@@ -128,11 +128,16 @@ public class ConfigCategoryBuilderImpl implements ConfigCategoryBuilder {
 		this.color = color;
 	}
 	
+	/**
+	 * Build the category, deferring the creation of its entries until
+	 * they're first needed
+	 */
 	@Override public ConfigCategoryImpl build() {
-		List<AbstractConfigField<?>> builtEntries =
+		List<FieldBuilder<?, ?, ?>> entries = new ArrayList<>(this.entries);
+		Supplier<List<AbstractConfigField<?>>> entryFactory = () ->
 		  entries.stream().map(FieldBuilder::build).collect(Collectors.toList());
 		return new ConfigCategoryImpl(
-		  name, type, builtEntries, getTitle(), getSortingOrder(),
+		  name, type, entryFactory, getTitle(), getSortingOrder(),
 		  getBackground(), getDescription(), getContainingFile(), isEditable(),
 		  getIcon(), getColor(), getLoadingFuture());
 	}
@@ -33,6 +33,7 @@ public abstract class FieldBuilder<V, Entry extends AbstractConfigListEntry<V>,
 	@Nullable protected Supplier<Boolean> editableSupplier = null;
 	protected List<EntryTag> entryTags = new ArrayList<>();
 	protected boolean ignoreEdits = false;
+	protected boolean asyncValidation = false;
 	
 	@Internal protected FieldBuilder(
 	  Class<?> entryClass, ConfigFieldBuilder builder, Component name, V value
@@ -62,6 +63,32 @@ public abstract class FieldBuilder<V, Entry extends AbstractConfigListEntry<V>,
 		return self();
 	}
 	
+	/**
+	 * Value the entry will be built with
+	 */
+	@Internal public V getValue() {
+		return value;
+	}
+	
+	/**
+	 * Replace the value the entry will be built with, keeping its original
+	 * value, so the entry is built as edited
+	 */
+	@Internal public Self setValue(V value) {
+		this.value = value;
+		return self();
+	}
+	
+	/**
+	 * Replace the value the entry will be built with, as if this builder had
+	 * been created with it.<br>
+	 * Used to keep entries up to date with external changes until they're built.
+	 */
+	@Internal public Self reloadValue(V value) {
+		this.value = original = value;
+		return self();
+	}
+	
 	public Self setName(String name) {
 		this.name = name;
 		return self();
@@ -71,6 +98,10 @@ public abstract class FieldBuilder<V, Entry extends AbstractConfigListEntry<V>,
 		this.errorSupplier = errorSupplier;
 		return self();
 	}
+	public Self setAsyncValidation(boolean asyncValidation) {
+		this.asyncValidation = asyncValidation;
+		return self();
+	}
 	public Self setTooltipSupplier(Function<V, Optional<Component[]>> tooltipSupplier) {
 		this.tooltipSupplier = tooltipSupplier;
 		return self();
@@ -147,12 +178,13 @@ public abstract class FieldBuilder<V, Entry extends AbstractConfigListEntry<V>,
 	@NotNull public Entry build() {
 		final Entry entry = buildEntry();
 		entry.setRequiresRestart(requireRestart);
-		entry.setErrorSupplier(() -> errorSupplier.apply(entry.getValue()));
+		entry.setErrorSupplier(errorSupplier);
+		entry.setAsyncValidation(asyncValidation);
 		entry.setDefaultValue(defaultValue);
 		entry.setSaveConsumer(saveConsumer);
 		if (entry instanceof TooltipListEntry)
 			((TooltipListEntry<?>) entry).setTooltipSupplier(() -> tooltipSupplier.apply(entry.getValue()));
-		entry.setOriginal(value);
+		entry.setOriginal(original);
 		if (name != null) entry.setName(name);
 		entry.getEntryTags().addAll(entryTags);
 		entry.setEditableSupplier(editableSupplier);
@@ -64,10 +64,15 @@ public class SimpleConfigCommentedYamlFormat implements ConfigFormat<CommentedCo
 	}
 	
 	private final Yaml yaml;
+	private final SimpleConfigYamlConstructor constructor;
+	private final DumperOptions dumperOptions;
 	private final SimpleConfigImpl config;
 	
 	private SimpleConfigCommentedYamlFormat(Yaml yaml, SimpleConfigImpl config) {
 		this.yaml = yaml;
+		// Same thread local instance used by the Yaml instance
+		constructor = (SimpleConfigYamlConstructor) DEFAULT_CONSTRUCTOR.get();
+		dumperOptions = DEFAULT_DUMPER_OPTIONS.get();
 		this.config = config;
 	}
 	
@@ -127,4 +132,12 @@ public class SimpleConfigCommentedYamlFormat implements ConfigFormat<CommentedCo
 	public Yaml getYaml() {
 		return yaml;
 	}
+	
+	public SimpleConfigYamlConstructor getConstructor() {
+		return constructor;
+	}
+	
+	public DumperOptions getDumperOptions() {
+		return dumperOptions;
+	}
 }
@@ -8,15 +8,13 @@ import com.electronwill.nightconfig.core.io.ParsingException;
 import com.electronwill.nightconfig.core.io.ParsingMode;
 import com.electronwill.nightconfig.core.utils.TransformingMap;
 import endorh.simpleconfig.core.SimpleConfigImpl;
-import org.apache.commons.io.IOUtils;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.nodes.MappingNode;
 import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.NodeTuple;
 import org.yaml.snakeyaml.nodes.ScalarNode;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.io.Reader;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -25,12 +23,14 @@ import static com.electronwill.nightconfig.core.NullObject.NULL_OBJECT;
 
 public class SimpleConfigCommentedYamlParser implements ConfigParser<CommentedConfig> {
 	private final Yaml yaml;
+	private final SimpleConfigYamlConstructor constructor;
 	private final ConfigFormat<CommentedConfig> configFormat;
 	private final SimpleConfigImpl config;
 	private boolean parseComments = true;
 	
 	public SimpleConfigCommentedYamlParser(SimpleConfigCommentedYamlFormat format) {
 		this.yaml = format.getYaml();
+		this.constructor = format.getConstructor();
 		this.configFormat = format;
 		this.config = format.getSimpleConfig();
 	}
@@ -49,13 +49,14 @@ public class SimpleConfigCommentedYamlParser implements ConfigParser<CommentedCo
 	  Reader reader, Config destination, ParsingMode parsingMode
 	) {
 		try {
-			ByteArrayOutputStream bos = new ByteArrayOutputStream();
-			IOUtils.copy(reader, bos, StandardCharsets.UTF_8);
-			byte[] bytes = bos.toByteArray();
-			BufferedReader r = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)));
-			
+			// Values and comments are read from the same node graph,
+			//   so the document is only parsed once
+			Node node = yaml.compose(reader);
+			Object value = node != null? constructor.constructNode(node) : null;
+			if (value != null && !(value instanceof Map)) throw new ParsingException(
+			  "YAML config root must be a mapping, but found " + node.getNodeId());
 			//noinspection unchecked
-			Map<String, Object> wrappedMap = wrap(yaml.loadAs(r, Map.class));
+			Map<String, Object> wrappedMap = wrap((Map<String, Object>) value);
 			parsingMode.prepareParsing(destination);
 			
 			// Add entries
@@ -66,11 +67,12 @@ public class SimpleConfigCommentedYamlParser implements ConfigParser<CommentedCo
 			
 			// Load comments
 			if (config != null && isParseComments()) {
-				r = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)));
-				Map<String, NodeComments> comments = parseYamlComments(yaml.compose(r));
+				Map<String, NodeComments> comments = parseYamlComments(node);
 				config.loadComments(comments);
 			}
-		} catch (RuntimeException | IOException e) {
+		} catch (ParsingException e) {
+			throw e;
+		} catch (RuntimeException e) {
 			throw new ParsingException("YAML parsing failed", e);
 		}
 	}
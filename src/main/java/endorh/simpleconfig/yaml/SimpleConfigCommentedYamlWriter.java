@@ -5,16 +5,23 @@ import com.electronwill.nightconfig.core.io.ConfigWriter;
 import com.electronwill.nightconfig.core.io.WritingException;
 import com.electronwill.nightconfig.core.utils.TransformingMap;
 import endorh.simpleconfig.core.SimpleConfigImpl;
+import org.jetbrains.annotations.Nullable;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.DumperOptions.FlowStyle;
 import org.yaml.snakeyaml.Yaml;
 import org.yaml.snakeyaml.comments.CommentLine;
 import org.yaml.snakeyaml.comments.CommentType;
+import org.yaml.snakeyaml.emitter.Emitter;
 import org.yaml.snakeyaml.error.Mark;
-import org.yaml.snakeyaml.nodes.MappingNode;
-import org.yaml.snakeyaml.nodes.Node;
-import org.yaml.snakeyaml.nodes.NodeTuple;
-import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.events.*;
+import org.yaml.snakeyaml.nodes.*;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.serializer.AnchorGenerator;
 
+import java.io.IOException;
 import java.io.Writer;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.electronwill.nightconfig.core.NullObject.NULL_OBJECT;
@@ -23,29 +30,175 @@ public class SimpleConfigCommentedYamlWriter implements ConfigWriter {
 	
 	private final SimpleConfigCommentedYamlFormat format;
 	private final Yaml yaml;
+	private final DumperOptions options;
+	private final Resolver resolver = new Resolver();
 	private final SimpleConfigImpl config;
 	private boolean generateComments = true;
 	
 	public SimpleConfigCommentedYamlWriter(SimpleConfigCommentedYamlFormat format) {
 		this.format = format;
 		yaml = format.getYaml();
+		options = format.getDumperOptions();
 		config = format.getSimpleConfig();
 	}
 	
+	/**
+	 * Write a config as YAML, streaming its contents to the writer.<br>
+	 * Nested configs (categories and groups) are emitted directly, and only the
+	 * values of single entries are represented as YAML nodes, so the node tree
+	 * for the whole config is never held in memory.
+	 */
 	@Override public void write(
 	  UnmodifiableConfig config, Writer writer
 	) {
 		try {
-			Map<String, Object> unwrappedMap = unwrap(config);
-			Node node = yaml.represent(unwrappedMap);
-			if (this.config != null && isGenerateComments())
-				attachYamlComments(node, this.config.getComments());
-			yaml.serialize(node, writer);
-		} catch (RuntimeException e) {
+			Map<String, NodeComments> comments =
+			  this.config != null && isGenerateComments()? this.config.getComments() : null;
+			new StreamingSerializer(new Emitter(writer, options), comments).serialize(config);
+		} catch (RuntimeException | IOException e) {
 			throw new WritingException("YAML writing failed", e);
 		}
 	}
 	
+	/**
+	 * Emits the same events a {@link org.yaml.snakeyaml.serializer.Serializer} would
+	 * emit for the represented config, without representing it as a whole.
+	 */
+	private class StreamingSerializer {
+		private final Emitter emitter;
+		private final @Nullable Map<String, NodeComments> comments;
+		private final AnchorGenerator anchorGenerator = options.getAnchorGenerator();
+		private final Map<Node, String> anchors = new IdentityHashMap<>();
+		private final Map<Node, Node> serializedNodes = new IdentityHashMap<>();
+		
+		private StreamingSerializer(Emitter emitter, @Nullable Map<String, NodeComments> comments) {
+			this.emitter = emitter;
+			this.comments = comments;
+		}
+		
+		public void serialize(UnmodifiableConfig config) throws IOException {
+			emitter.emit(new StreamStartEvent(null, null));
+			emitter.emit(new DocumentStartEvent(
+			  null, null, options.isExplicitStart(), options.getVersion(), options.getTags()));
+			NodeComments rootComments = comments != null? comments.get("") : null;
+			emitComments(rootComments != null? rootComments.getBlockComments() : null);
+			serializeConfig(config, "");
+			if (rootComments != null) {
+				emitComments(rootComments.getInLineComments());
+				emitComments(rootComments.getEndComments());
+			}
+			emitter.emit(new DocumentEndEvent(null, null, options.isExplicitEnd()));
+			emitter.emit(new StreamEndEvent(null, null));
+		}
+		
+		private void serializeConfig(UnmodifiableConfig config, String prefix) throws IOException {
+			emitter.emit(new MappingStartEvent(
+			  null, Tag.MAP.getValue(), true, null, null, FlowStyle.BLOCK));
+			for (UnmodifiableConfig.Entry entry : config.entrySet()) {
+				String key = entry.getKey();
+				String path = prefix + key;
+				Object value = entry.getRawValue();
+				NodeComments nodeComments = comments != null? comments.get(path) : null;
+				Node keyNode = yaml.represent(key);
+				if (nodeComments != null) {
+					keyNode.setBlockComments(nodeComments.getBlockComments());
+					keyNode.setInLineComments(nodeComments.getKeyInLineComments());
+				}
+				serializeNode(keyNode);
+				if (value instanceof UnmodifiableConfig subConfig) {
+					if (nodeComments != null) emitComments(nodeComments.getValueBlockComments());
+					serializeConfig(subConfig, path + ".");
+					if (nodeComments != null) {
+						emitComments(nodeComments.getInLineComments());
+						emitComments(nodeComments.getEndComments());
+					}
+				} else {
+					Node valueNode = yaml.represent(unwrap(value));
+					if (comments != null) {
+						if (nodeComments != null) {
+							valueNode.setBlockComments(nodeComments.getValueBlockComments());
+							valueNode.setInLineComments(nodeComments.getInLineComments());
+							valueNode.setEndComments(nodeComments.getEndComments());
+						}
+						// Comments within map values
+						if (valueNode instanceof MappingNode mappingNode) {
+							for (NodeTuple tuple : mappingNode.getValue()) {
+								if (tuple.getKeyNode() instanceof ScalarNode childKey)
+									attachChildYamlComments(path + "." + childKey.getValue(), tuple, comments);
+							}
+						}
+					}
+					anchorNode(valueNode);
+					serializeNode(valueNode);
+					anchors.clear();
+					serializedNodes.clear();
+				}
+			}
+			emitter.emit(new MappingEndEvent(null, null));
+		}
+		
+		private void anchorNode(Node node) {
+			if (node instanceof AnchorNode anchorNode) node = anchorNode.getRealNode();
+			if (anchors.containsKey(node)) {
+				if (anchors.get(node) == null) anchors.put(node, anchorGenerator.nextAnchor(node));
+			} else {
+				anchors.put(node, null);
+				if (node instanceof SequenceNode sequenceNode) {
+					for (Node item : sequenceNode.getValue()) anchorNode(item);
+				} else if (node instanceof MappingNode mappingNode) {
+					for (NodeTuple tuple : mappingNode.getValue()) {
+						anchorNode(tuple.getKeyNode());
+						anchorNode(tuple.getValueNode());
+					}
+				}
+			}
+		}
+		
+		private void serializeNode(Node node) throws IOException {
+			if (node instanceof AnchorNode anchorNode) node = anchorNode.getRealNode();
+			String anchor = anchors.get(node);
+			if (serializedNodes.containsKey(node)) {
+				emitter.emit(new AliasEvent(anchor, null, null));
+				return;
+			}
+			serializedNodes.put(node, node);
+			emitComments(node.getBlockComments());
+			Tag tag = node.getTag();
+			if (node instanceof ScalarNode scalarNode) {
+				String value = scalarNode.getValue();
+				ImplicitTuple implicit = new ImplicitTuple(
+				  tag.equals(resolver.resolve(NodeId.scalar, value, true)),
+				  tag.equals(resolver.resolve(NodeId.scalar, value, false)));
+				emitter.emit(new ScalarEvent(
+				  anchor, tag.getValue(), implicit, value, null, null, scalarNode.getScalarStyle()));
+			} else if (node instanceof SequenceNode sequenceNode) {
+				boolean implicit = tag.equals(resolver.resolve(NodeId.sequence, null, true));
+				emitter.emit(new SequenceStartEvent(
+				  anchor, tag.getValue(), implicit, null, null, sequenceNode.getFlowStyle()));
+				for (Node item : sequenceNode.getValue()) serializeNode(item);
+				emitter.emit(new SequenceEndEvent(null, null));
+			} else if (node instanceof MappingNode mappingNode) {
+				if (tag == Tag.COMMENT) return;
+				boolean implicit = tag.equals(resolver.resolve(NodeId.mapping, null, true));
+				emitter.emit(new MappingStartEvent(
+				  anchor, tag.getValue(), implicit, null, null, mappingNode.getFlowStyle()));
+				for (NodeTuple tuple : mappingNode.getValue()) {
+					serializeNode(tuple.getKeyNode());
+					serializeNode(tuple.getValueNode());
+				}
+				emitter.emit(new MappingEndEvent(null, null));
+			}
+			emitComments(node.getInLineComments());
+			emitComments(node.getEndComments());
+		}
+		
+		private void emitComments(@Nullable List<CommentLine> lines) throws IOException {
+			if (lines == null) return;
+			for (CommentLine line : lines) emitter.emit(new CommentEvent(
+			  line.getCommentType(), line.getValue(), line.getStartMark(), line.getEndMark()));
+		}
+	}
+	
 	public void attachYamlComments(Node root, Map<String, NodeComments> comments) {
 		NodeComments rootComments = comments.get("");
 		if (rootComments != null)
@@ -41,6 +41,14 @@ public class SimpleConfigYamlConstructor extends Constructor {
 		yamlConstructors.put(TRIPLE, new ConstructTriple());
 	}
 	
+	/**
+	 * Construct the value of an already composed node, allowing the same
+	 * node graph to be used to read comments.
+	 */
+	public Object constructNode(Node node) {
+		return constructDocument(node);
+	}
+	
 	@Override protected Construct getConstructor(Node node) {
 		if (!node.useClassConstructor()) {
 			HotKeyActionType<?, ?> type = HotKeyActionTypeManager.INSTANCE.getType(node.getTag());
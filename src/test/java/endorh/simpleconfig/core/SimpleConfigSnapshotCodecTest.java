@@ -0,0 +1,131 @@
+package endorh.simpleconfig.core;
+
+import com.electronwill.nightconfig.core.CommentedConfig;
+import com.electronwill.nightconfig.core.Config;
+import com.electronwill.nightconfig.core.InMemoryCommentedFormat;
+import endorh.simpleconfig.core.SimpleConfigSnapshotCodec.Schema;
+import endorh.simpleconfig.yaml.FlowList;
+import endorh.simpleconfig.yaml.NonConfigMap;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.electronwill.nightconfig.core.NullObject.NULL_OBJECT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleConfigSnapshotCodecTest {
+	private static final Schema SCHEMA = new Schema(List.of("a", "b.c", "b.d"));
+	
+	private static byte[] encode(List<Pair<String, Object>> values) {
+		return SimpleConfigSnapshotCodec.encode(SCHEMA, values);
+	}
+	
+	private static CommentedConfig decode(byte[] data) {
+		return SimpleConfigSnapshotCodec.decode(
+		  SCHEMA, InMemoryCommentedFormat.defaultInstance(), "test", data);
+	}
+	
+	/**
+	 * Encoding of a single value, without the snapshot header
+	 */
+	private static byte[] valueBytes(Object value) {
+		byte[] data = encode(List.of(Pair.of("a", value)));
+		// Format version, schema hash, value count and entry index
+		return Arrays.copyOfRange(data, 7, data.length);
+	}
+	
+	/**
+	 * Snapshot containing a single value with the given encoding
+	 */
+	private static byte[] withValue(byte[] value) {
+		byte[] header = encode(List.of(Pair.of("a", 0)));
+		byte[] data = Arrays.copyOf(header, 7 + value.length);
+		System.arraycopy(value, 0, data, 7, value.length);
+		return data;
+	}
+	
+	private static Object nest(Object value, int depth) {
+		for (int i = 0; i < depth; i++) value = List.of(value);
+		return value;
+	}
+	
+	@Test void testRoundTrip() {
+		Config sub = CommentedConfig.inMemory();
+		sub.set("x", 1);
+		sub.set("y", List.of("z"));
+		PairList<String, Integer> pairs = new PairList<>();
+		pairs.add(Pair.of("p", 1));
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("a", true);
+		values.put("b.c", "text");
+		values.put("b.d", 3.5D);
+		values.put("e.byte", (byte) 1);
+		values.put("e.short", (short) -2);
+		values.put("e.int", Integer.MIN_VALUE);
+		values.put("e.long", Long.MAX_VALUE);
+		values.put("e.float", 0.25F);
+		values.put("e.list", List.of(1, "two", List.of(3L)));
+		values.put("e.flow_list", FlowList.wrap(List.of(1, 2)));
+		values.put("e.pair_list", pairs);
+		values.put("e.set", new LinkedHashSet<>(List.of("s", "t")));
+		values.put("e.map", Map.of("k", List.of(1)));
+		values.put("e.non_config_map", NonConfigMap.singleton(1, "v"));
+		values.put("e.pair", Pair.of(1, "r"));
+		values.put("e.triple", Triple.of("l", 2, 3F));
+		values.put("e.config", sub);
+		List<Pair<String, Object>> list = new ArrayList<>();
+		values.forEach((k, v) -> list.add(Pair.of(k, v)));
+		list.add(Pair.of("e.null", null));
+		
+		CommentedConfig decoded = decode(encode(list));
+		values.forEach((k, v) -> {
+			Object value = decoded.getRaw(k);
+			if (v instanceof Config config) {
+				assertEquals(config.valueMap(), ((Config) value).valueMap(), k);
+			} else assertEquals(v, value, k);
+		});
+		assertSame(NULL_OBJECT, decoded.getRaw("e.null"));
+		assertInstanceOf(FlowList.class, decoded.getRaw("e.flow_list"));
+		assertInstanceOf(PairList.class, decoded.getRaw("e.pair_list"));
+		assertInstanceOf(NonConfigMap.class, decoded.getRaw("e.non_config_map"));
+		assertFalse(decoded.getRaw("e.map") instanceof NonConfigMap);
+	}
+	
+	@Test void testMaxDepth() {
+		Object value = nest("leaf", SimpleConfigSnapshotCodec.MAX_DEPTH);
+		assertEquals(value, decode(encode(List.of(Pair.of("a", value)))).getRaw("a"));
+		byte[] data = encode(List.of(
+		  Pair.of("a", nest("leaf", SimpleConfigSnapshotCodec.MAX_DEPTH + 1))));
+		assertThrows(IllegalStateException.class, () -> decode(data));
+	}
+	
+	@Test void testMalformed() {
+		byte[] data = encode(List.of(Pair.of("a", List.of("x", "y")), Pair.of("b.c", 1)));
+		for (int len = 0; len < data.length; len++) {
+			byte[] truncated = Arrays.copyOf(data, len);
+			assertThrows(IllegalStateException.class, () -> decode(truncated));
+		}
+		
+		// Oversized collections
+		byte listTag = valueBytes(List.of())[0];
+		byte[] oversized = withValue(new byte[] {listTag, -1, -1, -1, -1, 7});
+		assertThrows(IllegalStateException.class, () -> decode(oversized));
+		byte[] negative = withValue(new byte[] {listTag, -1, -1, -1, -1, 15});
+		assertThrows(IllegalStateException.class, () -> decode(negative));
+		byte[] varInt = withValue(new byte[] {listTag, -1, -1, -1, -1, -1, 1});
+		assertThrows(IllegalStateException.class, () -> decode(varInt));
+		
+		// Unknown tags and entry indices
+		assertThrows(IllegalStateException.class, () -> decode(withValue(new byte[] {127})));
+		byte[] index = encode(List.of(Pair.of("a", 0)));
+		index[6] = 4;
+		assertThrows(IllegalStateException.class, () -> decode(index));
+		
+		// Schema mismatch
+		byte[] hash = encode(List.of(Pair.of("a", 0)));
+		hash[1]++;
+		assertThrows(IllegalStateException.class, () -> decode(hash));
+	}
+}
@@ -0,0 +1,52 @@
+package endorh.simpleconfig.ui.gui.widget;
+
+import endorh.simpleconfig.ui.gui.widget.DynamicEntryListWidget.HeightIndex;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HeightIndexTest {
+	private static HeightIndex index(int... heights) {
+		HeightIndex index = new HeightIndex();
+		index.reset(heights.length);
+		for (int i = 0; i < heights.length; i++) index.set(i, heights[i]);
+		return index;
+	}
+	
+	@Test void testPrefix() {
+		HeightIndex index = index(10, 0, 0, 5, 0, 20);
+		int[] prefixes = {0, 10, 10, 10, 15, 15, 35};
+		for (int i = 0; i < prefixes.length; i++)
+			assertEquals(prefixes[i], index.prefix(i), "prefix(" + i + ")");
+		assertEquals(35, index.total());
+	}
+	
+	@Test void testFind() {
+		HeightIndex index = index(10, 0, 0, 5, 0, 20);
+		assertEquals(0, index.find(0));
+		assertEquals(0, index.find(9));
+		assertEquals(3, index.find(10));
+		assertEquals(3, index.find(14));
+		assertEquals(5, index.find(15));
+		assertEquals(5, index.find(34));
+		assertEquals(6, index.find(35));
+		
+		// Leading and trailing hidden items
+		assertEquals(2, index(0, 0, 7).find(0));
+		assertEquals(3, index(5, 0, 0).find(5));
+		assertEquals(3, index(0, 0, 0).find(0));
+		assertEquals(0, index().find(0));
+	}
+	
+	@Test void testUpdate() {
+		HeightIndex index = index(10, 0, 0, 5, 0, 20);
+		index.set(1, 4);
+		assertEquals(1, index.find(10));
+		assertEquals(3, index.find(14));
+		assertEquals(39, index.total());
+		index.set(0, 0);
+		assertEquals(1, index.find(0));
+		assertEquals(4, index.prefix(3));
+		assertEquals(29, index.total());
+	}
+}